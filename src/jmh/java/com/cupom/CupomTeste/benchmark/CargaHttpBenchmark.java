@@ -0,0 +1,123 @@
+package com.cupom.CupomTeste.benchmark;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.cupom.CupomTeste.CupomTesteApplication;
+import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.Service.GeradorDeCodigos;
+import com.cupom.CupomTeste.model.Cupom;
+import com.cupom.CupomTeste.model.Status.Status;
+
+/*
+ * Rajada de requisições simultâneas contra o servidor HTTP real: modo padrão, perfil "virtual" e perfil "reactive".
+ * Cada operação dispara `concorrencia` GETs de listagem (que sempre vão ao banco) e espera todos voltarem.
+ * Ex.: mvn -Pbenchmark test-compile exec:exec -Djmh.args="CargaHttpBenchmark -p concorrencia=2000"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CargaHttpBenchmark {
+
+    @Param({ "plataforma", "virtual", "reactive" })
+    public String modo;
+
+    @Param({ "1000" })
+    public int concorrencia;
+
+    private ConfigurableApplicationContext contexto;
+    private ExecutorService clientes;
+    private HttpClient http;
+    private HttpRequest listagem;
+
+    @Setup
+    public void subirAplicacao() {
+        SpringApplication aplicacao = new SpringApplication(CupomTesteApplication.class);
+        if (!"plataforma".equals(modo)) {
+            aplicacao.setAdditionalProfiles("test", modo);
+        } else {
+            aplicacao.setAdditionalProfiles("test");
+        }
+        // Toda a carga sai de um único cliente; com o filtro de admissão ligado mediríamos o limitador, não a pilha
+        contexto = aplicacao.run("--server.port=0", "--cupom.limite.habilitado=false",
+                                 "--server.tomcat.max-connections=" + (concorrencia * 2));
+
+        // Criados pelo repositório para valer igual nas três pilhas
+        CupomRepository cupomRepository = contexto.getBean(CupomRepository.class);
+        GeradorDeCodigos geradorDeCodigos = contexto.getBean(GeradorDeCodigos.class);
+        List<Cupom> cupoms = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Cupom cupom = new Cupom();
+            cupom.setCode(geradorDeCodigos.gerar());
+            cupom.setDescription("Cupom de carga");
+            cupom.setDiscountValue(BigDecimal.valueOf(10.0));
+            cupom.setExpirationDate(LocalDateTime.now().plusDays(30));
+            cupom.setStatus(Status.ACTIVE);
+            cupom.setPublished(true);
+            cupoms.add(cupom);
+        }
+        cupomRepository.saveAll(cupoms);
+
+        String porta = contexto.getEnvironment().getProperty("local.server.port");
+        clientes = Executors.newVirtualThreadPerTaskExecutor();
+        http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientes)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        listagem = HttpRequest.newBuilder(URI.create("http://localhost:" + porta + "/coupon?limit=50")).GET().build();
+    }
+
+    @TearDown
+    public void derrubarAplicacao() {
+        clientes.close();
+        contexto.close();
+    }
+
+    @Benchmark
+    public int rajada() {
+        List<CompletableFuture<HttpResponse<Void>>> respostas = new ArrayList<>(concorrencia);
+        for (int i = 0; i < concorrencia; i++) {
+            respostas.add(http.sendAsync(listagem, HttpResponse.BodyHandlers.discarding()));
+        }
+        int ok = 0;
+        for (CompletableFuture<HttpResponse<Void>> resposta : respostas) {
+            if (resposta.join().statusCode() == 200) {
+                ok++;
+            }
+        }
+        if (ok != concorrencia) {
+            throw new IllegalStateException((concorrencia - ok) + " requisições falharam");
+        }
+        return ok;
+    }
+}
@@ -0,0 +1,84 @@
+package com.cupom.CupomTeste.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.cupom.CupomTeste.CupomTesteApplication;
+import com.cupom.CupomTeste.Service.CupomService;
+import com.cupom.CupomTeste.cache.CupomCache;
+import com.cupom.CupomTeste.model.dto.CupomRequest;
+import com.cupom.CupomTeste.model.dto.CupomResponse;
+
+// createCupom e getCupomById passando pelo contexto Spring completo, contra o H2 do perfil de teste
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FluxoCompletoBenchmark {
+
+    private ConfigurableApplicationContext contexto;
+    private CupomService cupomService;
+    private CupomCache cache;
+    private UUID cupomId;
+
+    @Setup
+    public void subirAplicacao() {
+        SpringApplication aplicacao = new SpringApplication(CupomTesteApplication.class);
+        aplicacao.setWebApplicationType(WebApplicationType.NONE);
+        aplicacao.setAdditionalProfiles("test");
+        contexto = aplicacao.run();
+        cupomService = contexto.getBean(CupomService.class);
+        cache = contexto.getBean(CupomCache.class);
+        cupomId = cupomService.createCupom(novaRequisicao()).getBody().getId();
+    }
+
+    @TearDown
+    public void derrubarAplicacao() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public CupomResponse createCupom() {
+        return cupomService.createCupom(novaRequisicao()).getBody();
+    }
+
+    @Benchmark
+    public CupomResponse getCupomByIdEmCache() {
+        return cupomService.getCupomById(cupomId).getBody();
+    }
+
+    @Benchmark
+    public CupomResponse getCupomByIdNoBanco() {
+        cache.remover(cupomId);
+        return cupomService.getCupomById(cupomId).getBody();
+    }
+
+    // Sem código: o gerador entrega um código livre a cada chamada
+    private static CupomRequest novaRequisicao() {
+        CupomRequest request = new CupomRequest();
+        request.setDescription("Cupom de benchmark");
+        request.setDiscountValue(BigDecimal.valueOf(10.0));
+        request.setExpirationDate(LocalDateTime.now().plusDays(30));
+        request.setPublished(true);
+        return request;
+    }
+}
@@ -0,0 +1,127 @@
+package com.cupom.CupomTeste.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cupom.CupomTeste.model.GeradorUuidV7;
+
+// Antes (VARCHAR(36) + UUID v4) e depois (UUID nativo + v7) numa tabela H2 em arquivo com as colunas de coupons.
+// O tamanho em disco da tabela e dos índices sai no log do setup; o benchmark mede a busca pela chave primária.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentificadorBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(IdentificadorBenchmark.class);
+
+    @Param({ "varchar-v4", "uuid-v7" })
+    private String formato;
+
+    @Param({ "200000" })
+    private int quantidade;
+
+    private Path diretorio;
+    private Connection conexao;
+    private PreparedStatement busca;
+    private Object[] ids;
+
+    @Setup(Level.Trial)
+    public void preparar() throws Exception {
+        boolean nativo = formato.equals("uuid-v7");
+        diretorio = Files.createTempDirectory("jmh-ids");
+        conexao = DriverManager.getConnection("jdbc:h2:" + diretorio.resolve("ids"), "sa", "");
+        try (Statement ddl = conexao.createStatement()) {
+            ddl.execute("create table coupons (id " + (nativo ? "uuid" : "varchar(36)") + " primary key, "
+                      + "code varchar(6) not null, description text, discount_value numeric(38,2) not null, "
+                      + "expiration_date timestamp(6) not null, status varchar(10) not null, "
+                      + "published boolean not null, redeemed boolean not null)");
+            ddl.execute("create unique index ux_coupons_code on coupons (code)");
+            ddl.execute("create index ix_coupons_status_expiration on coupons (status, expiration_date)");
+        }
+
+        long inicio = System.nanoTime();
+        ids = new Object[quantidade];
+        conexao.setAutoCommit(false);
+        try (PreparedStatement insercao = conexao.prepareStatement(
+                "insert into coupons values (?, ?, 'Cupom de benchmark', 10.00, current_timestamp, 'ACTIVE', true, false)")) {
+            for (int i = 0; i < quantidade; i++) {
+                UUID id = nativo ? GeradorUuidV7.gerar() : UUID.randomUUID();
+                ids[i] = nativo ? id : id.toString();
+                insercao.setObject(1, ids[i]);
+                insercao.setString(2, "%06d".formatted(i));
+                insercao.addBatch();
+                if (i % 1_000 == 999) {
+                    insercao.executeBatch();
+                    conexao.commit();
+                }
+            }
+            insercao.executeBatch();
+            conexao.commit();
+        }
+        long insercaoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+        try (Statement compactar = conexao.createStatement()) {
+            compactar.execute("checkpoint sync");
+        }
+        try (Statement consulta = conexao.createStatement();
+             ResultSet espaco = consulta.executeQuery("call disk_space_used('COUPONS')")) {
+            espaco.next();
+            log.info("{}: {} linhas inseridas em {} ms, tabela + índices = {} KB",
+                     formato, quantidade, insercaoMs, espaco.getLong(1) >> 10);
+        }
+        busca = conexao.prepareStatement("select code from coupons where id = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws SQLException, IOException {
+        busca.close();
+        try (Statement fim = conexao.createStatement()) {
+            fim.execute("shutdown");
+        }
+        conexao.close();
+        try (var arquivos = Files.list(diretorio)) {
+            for (Path arquivo : arquivos.toList()) {
+                Files.delete(arquivo);
+            }
+        }
+        Files.delete(diretorio);
+    }
+
+    @Benchmark
+    public String buscarPorId() throws SQLException {
+        busca.setObject(1, ids[ThreadLocalRandom.current().nextInt(quantidade)]);
+        try (ResultSet linha = busca.executeQuery()) {
+            linha.next();
+            return linha.getString(1);
+        }
+    }
+}
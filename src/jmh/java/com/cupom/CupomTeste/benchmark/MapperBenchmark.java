@@ -0,0 +1,93 @@
+package com.cupom.CupomTeste.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.cupom.CupomTeste.mapper.CupomMapper;
+import com.cupom.CupomTeste.mapper.CupomMapperImpl;
+import com.cupom.CupomTeste.model.Cupom;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.dto.CupomRequest;
+import com.cupom.CupomTeste.model.dto.CupomResponse;
+import com.cupom.CupomTeste.serializacao.ModuloCupom;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// Rodar com -prof gc: respostaDireta deve alocar menos bytes por resposta que respostaPorBean
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private CupomMapper mapper;
+    private CupomRequest request;
+    private Cupom cupom;
+    private ObjectWriter porBean;
+    private ObjectWriter direto;
+
+    @Setup
+    public void preparar() {
+        mapper = new CupomMapperImpl();
+        LocalDateTime expirationDate = LocalDateTime.now().plusDays(30);
+
+        request = new CupomRequest();
+        request.setCode("ABC123");
+        request.setDescription("Cupom de benchmark");
+        request.setDiscountValue(BigDecimal.valueOf(10.0));
+        request.setExpirationDate(expirationDate);
+        request.setPublished(true);
+
+        cupom = mapper.toEntity(request);
+        cupom.setId(UUID.randomUUID());
+        cupom.setStatus(Status.ACTIVE);
+
+        // Mesmo ObjectMapper do Spring Boot (datas em ISO-8601), com e sem o ModuloCupom
+        porBean = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build().writerFor(CupomResponse.class);
+        direto = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new ModuloCupom())
+                .build().writerFor(Cupom.class);
+    }
+
+    @Benchmark
+    public Cupom toEntity() {
+        return mapper.toEntity(request);
+    }
+
+    @Benchmark
+    public CupomResponse toResponse() {
+        return mapper.toResponse(cupom);
+    }
+
+    // Caminho anterior: entidade -> CupomResponse -> serialização por bean
+    @Benchmark
+    public byte[] respostaPorBean() throws JsonProcessingException {
+        return porBean.writeValueAsBytes(mapper.toResponse(cupom));
+    }
+
+    // Entidade direto nos bytes JSON pelo ModuloCupom, sem o objeto intermediário
+    @Benchmark
+    public byte[] respostaDireta() throws JsonProcessingException {
+        return direto.writeValueAsBytes(cupom);
+    }
+}
@@ -0,0 +1,62 @@
+package com.cupom.CupomTeste.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.cupom.CupomTeste.Config.CborConfig;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.dto.CupomResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Mesmos ObjectMappers (JSON e CBOR) que o Spring monta para os controllers
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacaoBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper cbor;
+    private CupomResponse response;
+
+    @Setup
+    public void preparar() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        cbor = new CborConfig().conversorCbor(Jackson2ObjectMapperBuilder.json()).getObjectMapper();
+        response = new CupomResponse(null, null, null, null, null, null, false, false);
+        response.setId(UUID.randomUUID());
+        response.setCode("ABC123");
+        response.setDescription("Cupom de benchmark com uma descrição de tamanho realista para a vitrine");
+        response.setDiscountValue(BigDecimal.valueOf(10.0));
+        response.setExpirationDate(LocalDateTime.now().plusDays(30));
+        response.setStatus(Status.ACTIVE);
+        response.setPublished(true);
+    }
+
+    @Benchmark
+    public byte[] serializarResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializarResponseCbor() throws JsonProcessingException {
+        return cbor.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,55 @@
+package com.cupom.CupomTeste.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cupom.CupomTeste.cache.TabelaDeCupons;
+
+// Consulta na tabela fora do heap com vários leitores; a memória reservada sai no log do setup
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class TabelaDeCuponsBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(TabelaDeCuponsBenchmark.class);
+
+    private static final long AGORA = 1_800_000_000L;
+
+    @Param({ "1000000" })
+    private int quantidade;
+
+    private TabelaDeCupons tabela;
+
+    @Setup
+    public void preparar() {
+        tabela = new TabelaDeCupons(quantidade * 2);
+        for (long chave = 1; chave <= quantidade; chave++) {
+            tabela.gravar(chave, chave % 10_000, AGORA + 86_400, TabelaDeCupons.PUBLICADO);
+        }
+        log.info("{} cupons em {} MB fora do heap", tabela.tamanho(), tabela.bytesReservados() >> 20);
+    }
+
+    @Benchmark
+    public long consultar() {
+        return tabela.descontoSeValido(1 + ThreadLocalRandom.current().nextInt(quantidade * 2), AGORA);
+    }
+}
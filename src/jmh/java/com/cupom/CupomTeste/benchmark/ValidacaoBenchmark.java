@@ -0,0 +1,67 @@
+package com.cupom.CupomTeste.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cupom.CupomTeste.Exception.NegocioException;
+import com.cupom.CupomTeste.Exception.TabelaDeErros;
+import com.cupom.CupomTeste.Service.ValidadorDeCupom;
+import com.cupom.CupomTeste.model.Cupom;
+
+// Rodar com -prof gc: validarCodigoLimpo deve ficar em ~0 B/op em gc.alloc.rate.norm
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidacaoBenchmark {
+
+    private Cupom cupom;
+
+    @Setup
+    public void preparar() {
+        cupom = new Cupom();
+        cupom.setDiscountValue(BigDecimal.valueOf(10.0));
+        cupom.setExpirationDate(LocalDateTime.now().plusDays(30));
+    }
+
+    @Benchmark
+    public Cupom validarCodigoLimpo() {
+        cupom.setCode("ABC123");
+        ValidadorDeCupom.validar(cupom);
+        return cupom;
+    }
+
+    // Só a cópia do código sem o separador deve aparecer como alocação
+    @Benchmark
+    public Cupom validarCodigoComSeparadores() {
+        cupom.setCode("ABC-123");
+        ValidadorDeCupom.validar(cupom);
+        return cupom;
+    }
+
+    // Caminho do tráfego abusivo: o custo é o lançamento da NegocioException, que não preenche stack trace
+    @Benchmark
+    public TabelaDeErros validarCodigoInvalido() {
+        cupom.setCode("AB");
+        try {
+            ValidadorDeCupom.validar(cupom);
+            return null;
+        } catch (NegocioException e) {
+            return e.getErro();
+        }
+    }
+}
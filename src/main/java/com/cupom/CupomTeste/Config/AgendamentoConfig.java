@@ -0,0 +1,12 @@
+package com.cupom.CupomTeste.Config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Tarefas em segundo plano (expiração de cupons); desligadas nos testes para não concorrer com eles
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "cupom.agendamento.habilitado", havingValue = "true", matchIfMissing = true)
+public class AgendamentoConfig {
+}
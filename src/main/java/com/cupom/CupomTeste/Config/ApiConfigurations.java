@@ -1,6 +1,10 @@
 package com.cupom.CupomTeste.Config;
 
-import org.modelmapper.ModelMapper;
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,6 +12,11 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
 
+import com.cupom.CupomTeste.limite.FiltroDeAdmissao;
+import com.cupom.CupomTeste.limite.LimitadorDeTaxa;
+import com.cupom.CupomTeste.limite.LimiteDeConcorrencia;
+import com.cupom.CupomTeste.metricas.CupomMetricas;
+
 @Configuration
 public class ApiConfigurations {
 
@@ -29,9 +38,36 @@ public class ApiConfigurations {
         return registration;
     }
 
-    // Configuração do ModelMapper
+    // Limite de taxa por cliente, consultado a cada requisição em /coupon
+    @Bean
+    @ConditionalOnProperty(name = "cupom.limite.habilitado", havingValue = "true", matchIfMissing = true)
+    public LimitadorDeTaxa limitadorDeTaxa(@Value("${cupom.limite.taxa-por-segundo:100}") double taxaPorSegundo,
+                                           @Value("${cupom.limite.rajada:200}") int rajada,
+                                           @Value("${cupom.limite.maximo-clientes:100000}") long maximoDeClientes) {
+        return new LimitadorDeTaxa(taxaPorSegundo, rajada, maximoDeClientes);
+    }
+
+    // Limite adaptativo de requisições simultâneas nas rotas que chegam ao banco
     @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
+    @ConditionalOnProperty(name = "cupom.limite.habilitado", havingValue = "true", matchIfMissing = true)
+    public LimiteDeConcorrencia limiteDeConcorrencia(@Value("${cupom.limite.concorrencia-inicial:20}") int inicial,
+                                                     @Value("${cupom.limite.concorrencia-minima:4}") int minimo,
+                                                     @Value("${cupom.limite.concorrencia-maxima:200}") int maximo,
+                                                     @Value("${cupom.limite.latencia-alvo:250ms}") Duration latenciaAlvo) {
+        return new LimiteDeConcorrencia(inicial, minimo, maximo, latenciaAlvo.toNanos());
+    }
+
+    // Filtro de admissão logo depois do CORS, para que a recusa também leve os cabeçalhos de CORS
+    @Bean
+    @ConditionalOnProperty(name = "cupom.limite.habilitado", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<FiltroDeAdmissao> registrarFiltroDeAdmissao(LimitadorDeTaxa limitador,
+                                                                             LimiteDeConcorrencia concorrencia,
+                                                                             CupomMetricas metricas,
+                                                                             @Value("${cupom.limite.chaves:}") Set<String> chaves) {
+        FilterRegistrationBean<FiltroDeAdmissao> registration = new FilterRegistrationBean<>(
+                new FiltroDeAdmissao(limitador, concorrencia, metricas, System::nanoTime, chaves));
+        registration.addUrlPatterns("/coupon", "/coupon/*");
+        registration.setOrder(1);
+        return registration;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.cupom.CupomTeste.Config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.cupom.CupomTeste.cache.CacheCompartilhado;
+import com.cupom.CupomTeste.cache.CacheCompartilhadoEmMemoria;
+import com.cupom.CupomTeste.cache.CanalDeInvalidacao;
+import com.cupom.CupomTeste.cache.CanalDeInvalidacaoLocal;
+
+@Configuration
+public class CacheConfig {
+
+    // Segundo nível e transporte de invalidação dentro da JVM; com várias réplicas, troque
+    // cupom.cache.compartilhado / cupom.cache.canal e registre as implementações de rede
+    @Bean
+    @ConditionalOnProperty(name = "cupom.cache.compartilhado", havingValue = "memoria", matchIfMissing = true)
+    public CacheCompartilhado cacheCompartilhado(@Value("${cupom.cache.tamanho-maximo:10000}") long tamanhoMaximo,
+                                                 @Value("${cupom.cache.ttl:5m}") Duration ttl) {
+        return new CacheCompartilhadoEmMemoria(tamanhoMaximo, ttl);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cupom.cache.canal", havingValue = "local", matchIfMissing = true)
+    public CanalDeInvalidacao canalDeInvalidacao() {
+        return new CanalDeInvalidacaoLocal();
+    }
+}
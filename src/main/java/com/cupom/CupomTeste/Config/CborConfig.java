@@ -0,0 +1,23 @@
+package com.cupom.CupomTeste.Config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.cupom.CupomTeste.serializacao.ModuloCbor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+@Configuration
+public class CborConfig {
+
+    // Substitui o conversor CBOR padrão do Spring MVC: parte das mesmas configurações do JSON
+    // (spring.jackson.*, módulos registrados) e troca só a fábrica e a codificação das datas
+    @Bean
+    public MappingJackson2CborHttpMessageConverter conversorCbor(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper cbor = builder.factory(new CBORFactory()).build();
+        cbor.registerModule(new ModuloCbor());
+        return new MappingJackson2CborHttpMessageConverter(cbor);
+    }
+}
@@ -0,0 +1,34 @@
+package com.cupom.CupomTeste.Config;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.cupom.CupomTeste.eventos.DestinoDeEventos;
+import com.cupom.CupomTeste.eventos.DestinoDeEventosEmMemoria;
+import com.cupom.CupomTeste.eventos.DestinoDeEventosNdjson;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+public class EventosConfig {
+
+    // Por padrão os eventos vão para um arquivo NDJSON; para um broker, registre outra implementação
+    // de DestinoDeEventos e troque cupom.outbox.destino
+    @Bean
+    @ConditionalOnProperty(name = "cupom.outbox.destino", havingValue = "arquivo", matchIfMissing = true)
+    public DestinoDeEventos destinoDeEventosNdjson(@Value("${cupom.outbox.arquivo:./data/eventos.ndjson}") Path arquivo,
+                                                   ObjectMapper objectMapper) {
+        return new DestinoDeEventosNdjson(arquivo, objectMapper);
+    }
+
+    // Só para testes: guarda os últimos eventos na memória, até cupom.outbox.memoria.capacidade
+    @Bean
+    @ConditionalOnProperty(name = "cupom.outbox.destino", havingValue = "memoria")
+    public DestinoDeEventosEmMemoria destinoDeEventosEmMemoria(
+            @Value("${cupom.outbox.memoria.capacidade:10000}") int capacidade) {
+        return new DestinoDeEventosEmMemoria(capacidade);
+    }
+}
@@ -0,0 +1,33 @@
+package com.cupom.CupomTeste.Config;
+
+import org.flywaydb.core.api.FlywayException;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * Um banco criado antes do Flyway (sem flyway_schema_history) não é marcado sozinho como V1: ele pode ainda ter o
+ * id em VARCHAR(36) ou índices diferentes dos da V1, e o ddl-auto=validate não pega tudo isso. A subida falha e
+ * a mensagem diz o que fazer à mão.
+ */
+@Configuration
+public class MigracaoConfig {
+
+    static final String INSTRUCOES = "Banco sem flyway_schema_history e com tabelas: com a aplicação parada e depois "
+            + "de um backup, rode db/scripts/id-varchar-para-uuid.sql se o id ainda for VARCHAR(36), confira o "
+            + "esquema contra a V1 e marque a versão 1 com 'flyway baseline -baselineVersion=1'";
+
+    @Bean
+    public FlywayMigrationStrategy estrategiaDeMigracao() {
+        return flyway -> {
+            try {
+                flyway.migrate();
+            } catch (FlywayException e) {
+                if (flyway.info().current() == null) {
+                    throw new IllegalStateException(INSTRUCOES, e);
+                }
+                throw e;
+            }
+        };
+    }
+}
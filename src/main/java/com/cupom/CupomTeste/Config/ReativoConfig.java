@@ -0,0 +1,69 @@
+package com.cupom.CupomTeste.Config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+
+/*
+ * Acesso R2DBC da variante reativa. A auto-configuração R2DBC do Boot fica desligada (application.properties)
+ * e o pool não é exposto como bean: um ConnectionFactory no contexto faz o Boot desistir do DataSource e do
+ * gerenciador de transações do JPA, que continuam atendendo o expirador e o restante da aplicação.
+ * O schema é o mesmo criado pelo Hibernate.
+ */
+@Configuration
+@Profile("reactive")
+public class ReativoConfig {
+
+    private ConnectionPool pool;
+
+    @Bean
+    public DatabaseClient databaseClient(@Value("${cupom.r2dbc.url}") String url,
+                                         @Value("${spring.datasource.username}") String usuario,
+                                         @Value("${spring.datasource.password}") String senha,
+                                         @Value("${cupom.r2dbc.tamanho-pool:32}") int tamanhoPool) {
+        // Mesmas credenciais do DataSource: é o mesmo banco, aberto pelos dois lados
+        ConnectionFactoryOptions opcoes = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, usuario)
+                .option(ConnectionFactoryOptions.PASSWORD, senha)
+                .build();
+        pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(opcoes))
+                .initialSize(Math.min(8, tamanhoPool))
+                .maxSize(tamanhoPool)
+                .maxIdleTime(Duration.ofMinutes(30))
+                .build());
+        return DatabaseClient.create(pool);
+    }
+
+    // Transações do DatabaseClient, para a escrita e o evento da caixa de saída irem juntos. O R2dbcTransactionManager
+    // também fica fora do contexto: como o pool, faria o Boot desistir do gerenciador de transações do JPA
+    @Bean
+    public TransactionalOperator transacaoReativa(DatabaseClient databaseClient) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(databaseClient.getConnectionFactory()));
+    }
+
+    // Com o Tomcat também no classpath o Boot escolheria o Tomcat reativo; a variante roda sobre o Netty
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @PreDestroy
+    void fecharPool() {
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+}
@@ -1,38 +1,132 @@
 package com.cupom.CupomTeste.Controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.cupom.CupomTeste.Service.CupomLoteService;
 import com.cupom.CupomTeste.Service.CupomService;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.dto.CupomFiltro;
+import com.cupom.CupomTeste.model.dto.CupomPagina;
+import com.cupom.CupomTeste.model.dto.CupomPatchRequest;
 import com.cupom.CupomTeste.model.dto.CupomRequest;
 import com.cupom.CupomTeste.model.dto.CupomResponse;
+import com.cupom.CupomTeste.model.dto.CupomResumo;
+import com.cupom.CupomTeste.model.dto.ResultadoLote;
+import com.cupom.CupomTeste.model.dto.ValidacaoCupom;
 
 @RestController
 @RequestMapping("/coupon")
+@Profile("!reactive")
 public class CupomController {
 
     @Autowired
     private CupomService cupomService;
 
+    @Autowired
+    private CupomLoteService cupomLoteService;
+
     @PostMapping
     public ResponseEntity<CupomResponse> createCupom(@RequestBody CupomRequest cupomRequest) {
         return cupomService.createCupom(cupomRequest);
     }
 
+    @PostMapping(value = "batch", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<ResultadoLote> createCupoms(InputStream corpo) throws IOException {
+        return ResponseEntity.ok(cupomLoteService.createCupoms(corpo));
+    }
+
+    // Aceito para gravação adiada: a resposta lista os ids recusados, os demais ficam DELETED em instantes
+    @DeleteMapping("batch")
+    public ResponseEntity<ResultadoLote> deleteCupoms(@RequestBody List<UUID> ids) {
+        return ResponseEntity.accepted().body(cupomLoteService.deleteCupoms(ids));
+    }
+
+    @PostMapping("codes")
+    public ResponseEntity<List<String>> gerarCodigos(@RequestParam(defaultValue = "1") int quantidade) {
+        return cupomService.gerarCodigos(quantidade);
+    }
+
+    @GetMapping
+    public ResponseEntity<CupomPagina<CupomResponse>> getAllCupoms(@RequestParam(required = false) Status status,
+                                                    @RequestParam(required = false) Boolean published,
+                                                    @RequestParam(required = false) Boolean redeemed,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(defaultValue = "50") int limit) {
+        return cupomService.getAllCupoms(new CupomFiltro(status, published, redeemed), cursor, limit);
+    }
+
+    // Mesmos filtros e cursor da listagem, sem a description
+    @GetMapping("summary")
+    public ResponseEntity<CupomPagina<CupomResumo>> getCupomSummaries(@RequestParam(required = false) Status status,
+                                                                      @RequestParam(required = false) Boolean published,
+                                                                      @RequestParam(required = false) Boolean redeemed,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "50") int limit) {
+        return cupomService.getCupomSummaries(new CupomFiltro(status, published, redeemed), cursor, limit);
+    }
+
+    @GetMapping(value = "stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCupoms(@RequestParam(required = false) Status status,
+                                                              @RequestParam(required = false) Boolean published,
+                                                              @RequestParam(required = false) Boolean redeemed) {
+        return ResponseEntity.ok()
+                             .contentType(MediaType.APPLICATION_NDJSON)
+                             .body(cupomService.streamCupoms(new CupomFiltro(status, published, redeemed)));
+    }
+
     @GetMapping("{id}")
     public ResponseEntity<CupomResponse> getCupomById(@PathVariable UUID id) {
         return cupomService.getCupomById(id);
     }
 
+    @GetMapping("code/{code}")
+    public ResponseEntity<CupomResponse> getCupomByCode(@PathVariable String code) {
+        return cupomService.getCupomByCode(code);
+    }
+
+    @GetMapping("code/{code}/summary")
+    public ResponseEntity<CupomResumo> getCupomSummaryByCode(@PathVariable String code) {
+        return cupomService.getCupomSummaryByCode(code);
+    }
+
+    @GetMapping("code/{code}/validation")
+    public ResponseEntity<ValidacaoCupom> validateCupomCode(@PathVariable String code) {
+        return cupomService.validateCupomCode(code);
+    }
+
+    @PostMapping("{id}/redeem")
+    public ResponseEntity<CupomResponse> redeemCupom(@PathVariable UUID id) {
+        return cupomService.redeemCupom(id);
+    }
+
+    @PostMapping("code/{code}/redeem")
+    public ResponseEntity<CupomResponse> redeemCupomByCode(@PathVariable String code) {
+        return cupomService.redeemCupomByCode(code);
+    }
+
+    @PatchMapping("{id}")
+    public ResponseEntity<CupomResponse> patchCupom(@PathVariable UUID id, @RequestBody CupomPatchRequest alteracoes) {
+        return cupomService.patchCupom(id, alteracoes);
+    }
+
     @DeleteMapping("{id}")
     public ResponseEntity<Void> deleteCupom(@PathVariable UUID id) {
         cupomService.deleteCupom(id);
@@ -0,0 +1,117 @@
+package com.cupom.CupomTeste.Controller;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cupom.CupomTeste.Exception.NegocioException;
+import com.cupom.CupomTeste.Exception.TabelaDeErros;
+import com.cupom.CupomTeste.Service.CupomReativoService;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.dto.CupomFiltro;
+import com.cupom.CupomTeste.model.dto.CupomPagina;
+import com.cupom.CupomTeste.model.dto.CupomRequest;
+import com.cupom.CupomTeste.model.dto.CupomResponse;
+import com.cupom.CupomTeste.model.dto.ResultadoLote;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Rotas do CupomController servidas pelo WebFlux quando o perfil reactive está ativo. Resumos, validação,
+// PATCH e deleção em lote ficam só na pilha servlet e respondem 501 (ver o fim da classe)
+@RestController
+@RequestMapping("/coupon")
+@Profile("reactive")
+public class CupomReativoController {
+
+    @Autowired
+    private CupomReativoService cupomService;
+
+    @PostMapping
+    public Mono<ResponseEntity<CupomResponse>> createCupom(@RequestBody CupomRequest cupomRequest) {
+        return cupomService.createCupom(cupomRequest)
+                           .map(response -> ResponseEntity.status(201).body(response));
+    }
+
+    @PostMapping(value = "batch", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public Mono<ResultadoLote> createCupoms(@RequestBody Flux<CupomRequest> corpo) {
+        return cupomService.createCupoms(corpo);
+    }
+
+    @PostMapping("codes")
+    public Mono<List<String>> gerarCodigos(@RequestParam(defaultValue = "1") int quantidade) {
+        return cupomService.gerarCodigos(quantidade);
+    }
+
+    @GetMapping
+    public Mono<CupomPagina<CupomResponse>> getAllCupoms(@RequestParam(required = false) Status status,
+                                          @RequestParam(required = false) Boolean published,
+                                          @RequestParam(required = false) Boolean redeemed,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(defaultValue = "50") int limit) {
+        return cupomService.getAllCupoms(new CupomFiltro(status, published, redeemed), cursor, limit);
+    }
+
+    @GetMapping(value = "stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CupomResponse> streamCupoms(@RequestParam(required = false) Status status,
+                                            @RequestParam(required = false) Boolean published,
+                                            @RequestParam(required = false) Boolean redeemed) {
+        return cupomService.streamCupoms(new CupomFiltro(status, published, redeemed));
+    }
+
+    @GetMapping("{id}")
+    public Mono<CupomResponse> getCupomById(@PathVariable UUID id) {
+        return cupomService.getCupomById(id);
+    }
+
+    @GetMapping("code/{code}")
+    public Mono<CupomResponse> getCupomByCode(@PathVariable String code) {
+        return cupomService.getCupomByCode(code);
+    }
+
+    @PostMapping("{id}/redeem")
+    public Mono<CupomResponse> redeemCupom(@PathVariable UUID id) {
+        return cupomService.redeemCupom(id);
+    }
+
+    @PostMapping("code/{code}/redeem")
+    public Mono<CupomResponse> redeemCupomByCode(@PathVariable String code) {
+        return cupomService.redeemCupomByCode(code);
+    }
+
+    @DeleteMapping("{id}")
+    public Mono<ResponseEntity<Void>> deleteCupom(@PathVariable UUID id) {
+        return cupomService.deleteCupom(id)
+                           .then(Mono.just(ResponseEntity.noContent().<Void>build())); // Deletado com sucesso
+    }
+
+    // Mapeadas só para recusar com um erro claro: sem isso, summary e DELETE batch cairiam em {id} e voltariam
+    // como UUID inválido. Dependem da fila de deleção e da tabela de validação, que a variante não alimenta
+    @GetMapping({ "summary", "code/{code}/summary", "code/{code}/validation" })
+    public Mono<Void> consultaSoNaVarianteServlet() {
+        return Mono.error(new NegocioException(TabelaDeErros.ROTA_SO_NA_VARIANTE_SERVLET));
+    }
+
+    @PatchMapping("{id}")
+    public Mono<Void> patchSoNaVarianteServlet() {
+        return Mono.error(new NegocioException(TabelaDeErros.ROTA_SO_NA_VARIANTE_SERVLET));
+    }
+
+    @DeleteMapping("batch")
+    public Mono<Void> delecaoEmLoteSoNaVarianteServlet() {
+        return Mono.error(new NegocioException(TabelaDeErros.ROTA_SO_NA_VARIANTE_SERVLET));
+    }
+}
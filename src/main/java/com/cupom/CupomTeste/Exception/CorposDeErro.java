@@ -0,0 +1,77 @@
+package com.cupom.CupomTeste.Exception;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.core.io.AbstractResource;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Corpo JSON de cada entrada da TabelaDeErros, serializado uma vez na carga da classe;
+// a resposta de erro só copia os bytes, sem montar objeto nem passar pelo Jackson
+public final class CorposDeErro {
+
+    private static final Map<TabelaDeErros, Corpo> CORPOS = new EnumMap<>(TabelaDeErros.class);
+
+    static {
+        ObjectMapper mapper = new ObjectMapper();
+        for (TabelaDeErros erro : TabelaDeErros.values()) {
+            Map<String, String> corpo = new LinkedHashMap<>();
+            corpo.put("codigoDeErro", erro.getCodigoDeErro());
+            corpo.put("mensagem", erro.getMensagem());
+            try {
+                CORPOS.put(erro, new Corpo(mapper.writeValueAsBytes(corpo)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private CorposDeErro() {
+    }
+
+    // A mesma instância a cada chamada; como Resource, serve de corpo tanto no MVC quanto no WebFlux
+    public static Corpo de(TabelaDeErros erro) {
+        return CORPOS.get(erro);
+    }
+
+    // Os bytes ficam guardados aqui dentro: quem usa só consegue lê-los ou escrevê-los numa saída, nunca alterá-los
+    public static final class Corpo extends AbstractResource {
+
+        private final byte[] bytes;
+
+        private Corpo(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        public void escreverEm(OutputStream saida) throws IOException {
+            saida.write(bytes);
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public long contentLength() {
+            return bytes.length;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public String getDescription() {
+            return "corpo de erro pré-serializado";
+        }
+    }
+}
@@ -1,13 +1,31 @@
 package com.cupom.CupomTeste.Exception;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.cupom.CupomTeste.metricas.CupomMetricas;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    @Autowired
+    private CupomMetricas metricas;
+
+    // Erros de negócio: status da TabelaDeErros e corpo JSON já serializado
+    @ExceptionHandler(NegocioException.class)
+    public ResponseEntity<CorposDeErro.Corpo> handleNegocio(NegocioException ex) {
+        TabelaDeErros erro = ex.getErro();
+        metricas.registrarErro(erro);
+        return ResponseEntity
+                .status(erro.getCodigoHttp())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(CorposDeErro.de(erro));
+    }
+
     // Para erros de validação e regras de negócio
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<String> handleBadRequest(IllegalArgumentException ex) {
@@ -23,4 +41,4 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.NOT_FOUND)
                 .body(ex.getMessage());
     }
-}
\ No newline at end of file
+}
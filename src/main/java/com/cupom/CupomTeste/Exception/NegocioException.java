@@ -2,40 +2,32 @@ package com.cupom.CupomTeste.Exception;
 
 import org.springframework.http.HttpStatus;
 
+// Erro de negócio sem stack trace: o que importa é a entrada da TabelaDeErros, e sob tráfego cheio de
+// códigos inválidos preencher a pilha a cada lançamento dominava o custo da requisição
 public class NegocioException extends RuntimeException {
 
     private static final long serialVersionUID = 1L;
 
-    private final HttpStatus codigoHttp;
-    private final String codigoDeErro;
-    private final String mensagem;
+    private final TabelaDeErros erro;
 
-    public NegocioException(TabelaDeErros tabela) {
-        super(tabela.getMensagem()); // mensagem da superclasse
-        this.codigoHttp = tabela.getCodigoHttp();
-        this.codigoDeErro = tabela.getCodigoDeErro();
-        this.mensagem = tabela.getMensagem();
+    public NegocioException(TabelaDeErros erro) {
+        super(erro.getMensagem(), null, false, false);
+        this.erro = erro;
+    }
+
+    public TabelaDeErros getErro() {
+        return erro;
     }
 
     public HttpStatus getCodigoHttp() {
-        return codigoHttp;
+        return erro.getCodigoHttp();
     }
 
     public String getCodigoDeErro() {
-        return codigoDeErro;
+        return erro.getCodigoDeErro();
     }
 
     public String getMensagem() {
-        return mensagem;
+        return erro.getMensagem();
     }
-
-	public TabelaDeErros getErro() {
-		// Encontra o enum correspondente ao código de erro
-		for (TabelaDeErros erro : TabelaDeErros.values()) {
-			if (erro.getCodigoDeErro().equals(this.codigoDeErro)) {
-				return erro;
-			}
-		}
-		return TabelaDeErros.ERRO_INTERNO;
-	}
-}
\ No newline at end of file
+}
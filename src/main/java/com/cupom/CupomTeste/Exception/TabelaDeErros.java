@@ -11,10 +11,27 @@ public enum TabelaDeErros {
     CODIGO_INVALIDO(HttpStatus.BAD_REQUEST, "2001-1000", "O código do cupom deve conter exatamente 6 caracteres alfanuméricos"),
     VALOR_DESCONTO_INVALIDO(HttpStatus.BAD_REQUEST, "2001-1001", "O valor de desconto do cupom deve ser no mínimo 0.5"),
     DATA_EXPIRACAO_INVALIDA(HttpStatus.BAD_REQUEST, "2001-1002", "A data de expiração do cupom não pode estar no passado"),
+    CURSOR_INVALIDO(HttpStatus.BAD_REQUEST, "2001-1003", "O cursor de paginação informado é inválido"),
+    ITEM_LOTE_INVALIDO(HttpStatus.BAD_REQUEST, "2001-1004", "O item do lote não pôde ser lido"),
+    QUANTIDADE_INVALIDA(HttpStatus.BAD_REQUEST, "2001-1005", "A quantidade de códigos deve estar entre 1 e 10000"),
+    QUANTIDADE_IDS_INVALIDA(HttpStatus.BAD_REQUEST, "2001-1006", "A lista de ids deve conter entre 1 e 10000 itens"),
+    ITENS_LOTE_NAO_PROCESSADOS(HttpStatus.BAD_REQUEST, "2001-1007", "O array do lote ficou ilegível neste item; ele e os seguintes não foram processados"),
     
     // Erros de operações
     CUPOM_NAO_ENCONTRADO(HttpStatus.NOT_FOUND, "2001-2000", "Cupom não encontrado"),
     CUPOM_JA_DELETADO(HttpStatus.PRECONDITION_FAILED, "2001-2001", "O cupom já foi deletado"),
+    CODIGO_JA_CADASTRADO(HttpStatus.CONFLICT, "2001-2002", "Já existe um cupom com este código"),
+    CUPOM_JA_RESGATADO(HttpStatus.CONFLICT, "2001-2003", "O cupom já foi resgatado"),
+    CUPOM_EXPIRADO(HttpStatus.UNPROCESSABLE_ENTITY, "2001-2004", "O cupom está expirado"),
+    CODIGOS_ESGOTADOS(HttpStatus.SERVICE_UNAVAILABLE, "2001-2005", "Não foi possível gerar um código livre, tente novamente"),
+    ALTERACAO_CONCORRENTE(HttpStatus.CONFLICT, "2001-2006", "O cupom foi alterado por outra requisição, tente novamente"),
+    
+    // Erros de admissão
+    LIMITE_DE_REQUISICOES(HttpStatus.TOO_MANY_REQUESTS, "2001-3000", "Limite de requisições excedido, tente novamente mais tarde"),
+    SERVICO_SOBRECARREGADO(HttpStatus.SERVICE_UNAVAILABLE, "2001-3001", "Serviço sobrecarregado, tente novamente em instantes"),
+    
+    // Rotas que a variante reativa não serve
+    ROTA_SO_NA_VARIANTE_SERVLET(HttpStatus.NOT_IMPLEMENTED, "2001-4000", "Rota disponível só sem o perfil reactive"),
     
     // Erro genérico
     ERRO_INTERNO(HttpStatus.INTERNAL_SERVER_ERROR, "2001-5000", "Erro interno no servidor");
@@ -0,0 +1,29 @@
+package com.cupom.CupomTeste.Repository;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.cupom.CupomTeste.model.CodigoReservado;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface CodigoReservadoRepository extends JpaRepository<CodigoReservado, String> {
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select r.code from CodigoReservado r")
+    Stream<String> streamCodigos();
+
+    @Modifying
+    @Query("delete from CodigoReservado r where r.reservadoEm < :limite")
+    int removerVencidas(@Param("limite") LocalDateTime limite);
+}
@@ -1,14 +1,191 @@
 package com.cupom.CupomTeste.Repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.cupom.CupomTeste.Service.CupomCursor;
 import com.cupom.CupomTeste.model.Cupom;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.dto.CupomResumo;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface CupomRepository extends JpaRepository<Cupom, UUID> {
+    // findById e findByCode deixam a description para depois; as leituras completas pedem a coluna no mesmo SELECT
+    @EntityGraph(attributePaths = "description")
     Optional<Cupom> findByCode(String code);
-}
\ No newline at end of file
+
+    @EntityGraph(attributePaths = "description")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("select c from Cupom c where c.id = :id")
+    Optional<Cupom> buscarCompleto(@Param("id") UUID id);
+
+    // Resolve código em id sem montar a entidade
+    @Query("select c.id from Cupom c where c.code = :code")
+    Optional<UUID> buscarIdPorCodigo(@Param("code") String code);
+
+    // Uma consulta por bloco do lote, em vez de uma por código
+    @Query("select c.code from Cupom c where c.code in :codes")
+    List<String> buscarCodigosExistentes(@Param("codes") Collection<String> codes);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select c.code from Cupom c")
+    Stream<String> streamCodigos();
+
+    // Quais dos códigos já viraram cupom, inclusive os gravados por outra réplica
+    @Query("select c.code from Cupom c where c.code in :codigos")
+    List<String> buscarCodigos(@Param("codigos") Collection<String> codigos);
+
+    String FILTRO = "(:status is null or c.status = :status) "
+                  + "and (:published is null or c.published = :published) "
+                  + "and (:redeemed is null or c.redeemed = :redeemed) ";
+
+    String ORDEM_CURSOR = "order by c.expirationDate, c.id";
+
+    String APOS_CURSOR = "and (c.expirationDate > :expirationDate or (c.expirationDate = :expirationDate and c.id > :id)) ";
+
+    @EntityGraph(attributePaths = "description")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("select c from Cupom c where " + FILTRO + ORDEM_CURSOR)
+    List<Cupom> buscarPagina(@Param("status") Status status,
+                             @Param("published") Boolean published,
+                             @Param("redeemed") Boolean redeemed,
+                             Pageable pagina);
+
+    // Continua a partir do último item entregue, sem OFFSET: o custo não cresce com a página
+    @EntityGraph(attributePaths = "description")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("select c from Cupom c where " + FILTRO + APOS_CURSOR + ORDEM_CURSOR)
+    List<Cupom> buscarPaginaApos(@Param("status") Status status,
+                                 @Param("published") Boolean published,
+                                 @Param("redeemed") Boolean redeemed,
+                                 @Param("expirationDate") LocalDateTime expirationDate,
+                                 @Param("id") UUID id,
+                                 Pageable pagina);
+
+    // Precisa ser consumido dentro de uma transação; o driver busca as linhas em lotes de fetchSize
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @EntityGraph(attributePaths = "description")
+    @Query("select c from Cupom c where " + FILTRO + ORDEM_CURSOR)
+    Stream<Cupom> streamOrdenado(@Param("status") Status status,
+                                 @Param("published") Boolean published,
+                                 @Param("redeemed") Boolean redeemed);
+
+    // Mesma paginação da listagem, mas só com as colunas do CupomResumo
+    String RESUMO = "select new com.cupom.CupomTeste.model.dto.CupomResumo(c.id, c.code, c.discountValue, "
+                  + "c.expirationDate, c.status, c.published, c.redeemed) from Cupom c ";
+
+    @Query(RESUMO + "where " + FILTRO + ORDEM_CURSOR)
+    List<CupomResumo> buscarResumos(@Param("status") Status status,
+                                    @Param("published") Boolean published,
+                                    @Param("redeemed") Boolean redeemed,
+                                    Pageable pagina);
+
+    @Query(RESUMO + "where " + FILTRO + APOS_CURSOR + ORDEM_CURSOR)
+    List<CupomResumo> buscarResumosApos(@Param("status") Status status,
+                                        @Param("published") Boolean published,
+                                        @Param("redeemed") Boolean redeemed,
+                                        @Param("expirationDate") LocalDateTime expirationDate,
+                                        @Param("id") UUID id,
+                                        Pageable pagina);
+
+    @Query(RESUMO + "where c.code = :code")
+    Optional<CupomResumo> buscarResumoPorCodigo(@Param("code") String code);
+
+    @Query(RESUMO + "where c.id = :id")
+    Optional<CupomResumo> buscarResumo(@Param("id") UUID id);
+
+    // Carga da tabela de validação: só cupons que ainda podem ser usados
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query(RESUMO + "where c.status = :status and c.redeemed = false and c.expirationDate > :agora")
+    Stream<CupomResumo> streamValidos(@Param("status") Status status, @Param("agora") LocalDateTime agora);
+
+    // Deleção lógica de um cupom: grava só a coluna status, sem carregar a linha
+    @Transactional
+    @Modifying
+    @Query("update Cupom c set c.status = :deletado, c.version = c.version + 1 where c.id = :id and c.status <> :deletado")
+    int deletar(@Param("id") UUID id, @Param("deletado") Status deletado);
+
+    // Resgate em um único UPDATE condicional: só uma transação concorrente consegue alterar a linha
+    @Transactional
+    @Modifying
+    @Query("update Cupom c set c.redeemed = true, c.version = c.version + 1 "
+         + "where c.id = :id and c.redeemed = false and c.status = :status and c.expirationDate > :agora")
+    int resgatar(@Param("id") UUID id, @Param("status") Status status, @Param("agora") LocalDateTime agora);
+
+    // Varredura de expiração: percorre o índice (status, expirationDate) a partir da marca d'água
+    String EXPIRADOS = "select new com.cupom.CupomTeste.Service.CupomCursor(c.expirationDate, c.id) from Cupom c "
+                     + "where c.status = :status and c.expirationDate < :agora ";
+
+    @Query(EXPIRADOS + ORDEM_CURSOR)
+    List<CupomCursor> buscarExpirados(@Param("status") Status status,
+                                      @Param("agora") LocalDateTime agora,
+                                      Pageable lote);
+
+    @Query(EXPIRADOS + APOS_CURSOR + ORDEM_CURSOR)
+    List<CupomCursor> buscarExpiradosApos(@Param("status") Status status,
+                                          @Param("agora") LocalDateTime agora,
+                                          @Param("expirationDate") LocalDateTime expirationDate,
+                                          @Param("id") UUID id,
+                                          Pageable lote);
+
+    // Trava, antes do UPDATE, as linhas que ele vai de fato expirar: só elas ganham evento na caixa de saída
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c.id as id, c.code as code, c.status as status from Cupom c "
+         + "where c.id in :ids and c.status = :status and c.expirationDate < :agora")
+    List<Situacao> travarVencidos(@Param("ids") Collection<UUID> ids,
+                                  @Param("status") Status status,
+                                  @Param("agora") LocalDateTime agora);
+
+    // As condições se repetem para não expirar uma linha deletada ou alterada entre a busca e o UPDATE
+    @Modifying
+    @Query("update Cupom c set c.status = :novoStatus, c.version = c.version + 1 "
+         + "where c.id in :ids and c.status = :status and c.expirationDate < :agora")
+    int alterarStatus(@Param("ids") Collection<UUID> ids,
+                      @Param("status") Status status,
+                      @Param("novoStatus") Status novoStatus,
+                      @Param("agora") LocalDateTime agora);
+
+    interface Situacao {
+        UUID getId();
+        String getCode();
+        Status getStatus();
+    }
+
+    // Só id, código e status, para classificar um lote de deleções sem carregar as entidades
+    @Query("select c.id as id, c.code as code, c.status as status from Cupom c where c.id in :ids")
+    List<Situacao> buscarSituacoes(@Param("ids") Collection<UUID> ids);
+
+    // Mesma ideia do travarVencidos: ids já deletados ficam de fora e não geram um segundo DELETADO
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c.id as id, c.code as code, c.status as status from Cupom c where c.id in :ids and c.status <> :deletado")
+    List<Situacao> travarNaoDeletados(@Param("ids") Collection<UUID> ids, @Param("deletado") Status deletado);
+
+    // Deleção lógica em lote, aplicada pela FilaDeDelecao
+    @Modifying
+    @Query("update Cupom c set c.status = :deletado, c.version = c.version + 1 where c.id in :ids and c.status <> :deletado")
+    int deletarEmLote(@Param("ids") Collection<UUID> ids, @Param("deletado") Status deletado);
+}
@@ -0,0 +1,41 @@
+package com.cupom.CupomTeste.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.cupom.CupomTeste.model.EventoCupom;
+
+@Repository
+public interface EventoCupomRepository extends JpaRepository<EventoCupom, Long> {
+
+    // Um evento por cupom do lote num único INSERT ... SELECT, na mesma transação do UPDATE em lote.
+    // Os ids devem ser só os das linhas que o UPDATE alterou (travadas antes com CupomRepository.travar*)
+    @Modifying
+    @Query(value = "insert into coupon_events (cupom_id, tipo, ocorrido_em) "
+                 + "select c.id, :tipo, :agora from coupons c where c.id in :ids order by c.id",
+           nativeQuery = true)
+    int registrarEmLote(@Param("ids") Collection<UUID> ids,
+                        @Param("tipo") String tipo,
+                        @Param("agora") LocalDateTime agora);
+
+    // Lock da linha de outbox_relay até o fim da transação; vem vazio quando outra réplica está entregando
+    @Query(value = "select nome from outbox_relay where nome = 'coupon_events' for update skip locked", nativeQuery = true)
+    List<String> travarRetransmissao();
+
+    // Próximos eventos a entregar, na ordem em que foram gravados
+    @Query("select e from EventoCupom e order by e.id")
+    List<EventoCupom> buscarPendentes(Pageable lote);
+
+    @Modifying
+    @Query("delete from EventoCupom e where e.id in :ids")
+    int removerEntregues(@Param("ids") Collection<Long> ids);
+}
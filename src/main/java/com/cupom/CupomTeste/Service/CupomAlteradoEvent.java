@@ -0,0 +1,30 @@
+package com.cupom.CupomTeste.Service;
+
+import java.util.UUID;
+
+// Evento publicado sempre que uma operação do CupomService altera uma linha de cupom
+public class CupomAlteradoEvent {
+
+    private final UUID id;
+
+    // Preenchido pelas gravações em lote quando o cupom deixou de valer: a tabela de validação só remove o código,
+    // sem reler a linha
+    private final String codigoInvalidado;
+
+    public CupomAlteradoEvent(UUID id) {
+        this(id, null);
+    }
+
+    public CupomAlteradoEvent(UUID id, String codigoInvalidado) {
+        this.id = id;
+        this.codigoInvalidado = codigoInvalidado;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getCodigoInvalidado() {
+        return codigoInvalidado;
+    }
+}
@@ -0,0 +1,61 @@
+package com.cupom.CupomTeste.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.cupom.CupomTeste.Exception.NegocioException;
+import com.cupom.CupomTeste.Exception.TabelaDeErros;
+import com.cupom.CupomTeste.model.Cupom;
+import com.cupom.CupomTeste.model.dto.CupomResumo;
+
+// Posição da paginação por chave (expirationDate, id), trafegada como texto opaco para o cliente
+public final class CupomCursor {
+
+    private static final char SEPARADOR = '|';
+
+    private final LocalDateTime expirationDate;
+    private final UUID id;
+
+    public CupomCursor(LocalDateTime expirationDate, UUID id) {
+        this.expirationDate = expirationDate;
+        this.id = id;
+    }
+
+    public static CupomCursor depoisDe(Cupom cupom) {
+        return new CupomCursor(cupom.getExpirationDate(), cupom.getId());
+    }
+
+    public static CupomCursor depoisDe(CupomResumo resumo) {
+        return new CupomCursor(resumo.getExpirationDate(), resumo.getId());
+    }
+
+    public static CupomCursor decodificar(String cursor) {
+        try {
+            String texto = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = texto.indexOf(SEPARADOR);
+            if (separador < 0) {
+                throw new NegocioException(TabelaDeErros.CURSOR_INVALIDO);
+            }
+            return new CupomCursor(LocalDateTime.parse(texto.substring(0, separador)),
+                                   UUID.fromString(texto.substring(separador + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new NegocioException(TabelaDeErros.CURSOR_INVALIDO);
+        }
+    }
+
+    public String codificar() {
+        String texto = expirationDate.toString() + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getExpirationDate() {
+        return expirationDate;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
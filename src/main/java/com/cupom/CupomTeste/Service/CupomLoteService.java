@@ -0,0 +1,414 @@
+package com.cupom.CupomTeste.Service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cupom.CupomTeste.Exception.NegocioException;
+import com.cupom.CupomTeste.Exception.TabelaDeErros;
+import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.Repository.EventoCupomRepository;
+import com.cupom.CupomTeste.cache.CuponsValidos;
+import com.cupom.CupomTeste.mapper.CupomMapper;
+import com.cupom.CupomTeste.metricas.CupomMetricas;
+import com.cupom.CupomTeste.model.Cupom;
+import com.cupom.CupomTeste.model.EventoCupom;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.TipoEventoCupom;
+import com.cupom.CupomTeste.model.dto.CupomRequest;
+import com.cupom.CupomTeste.model.dto.ErroLote;
+import com.cupom.CupomTeste.model.dto.ResultadoLote;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.annotation.Timed;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+
+// Criação de cupons em massa: lê o corpo item a item e grava em blocos com batch JDBC
+@Service
+public class CupomLoteService {
+
+    private static final int LIMITE_MAXIMO_IDS = 10_000;
+
+    @Autowired
+    private CupomService cupomService;
+
+    @Autowired
+    private CupomRepository cupomRepository;
+
+    @Autowired
+    private EventoCupomRepository eventoCupomRepository;
+
+    @Autowired
+    private CupomMapper mapper;
+
+    @Autowired
+    private GeradorDeCodigos geradorDeCodigos;
+
+    @Autowired
+    private FilaDeDelecao filaDeDelecao;
+
+    @Autowired
+    private CuponsValidos cuponsValidos;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CupomMetricas metricas;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${cupom.lote.tamanho-bloco:1000}")
+    private int tamanhoBloco;
+
+    // Aceita tanto um array JSON quanto NDJSON (um item por linha); só um bloco fica em memória por vez
+    @Timed(value = "cupom.servico", histogram = true)
+    public ResultadoLote createCupoms(InputStream corpo) throws IOException {
+        List<ErroLote> erros = new ArrayList<>();
+        List<ItemLote> bloco = new ArrayList<>(tamanhoBloco);
+        int indice = 0;
+        int sucessos = 0;
+
+        try (LeitorDeLote requisicoes = abrirLeitor(corpo)) {
+            while (true) {
+                try {
+                    if (!requisicoes.avancar()) {
+                        break;
+                    }
+                } catch (IOException e) {
+                    // Array com erro de sintaxe: o parser não tem como achar o início do próximo item. O que já foi
+                    // gravado fica; a resposta diz que deste índice em diante nada foi processado
+                    registrarErro(erros, indice++, TabelaDeErros.ITENS_LOTE_NAO_PROCESSADOS);
+                    break;
+                }
+
+                CupomRequest requisicao = requisicoes.atual();
+                if (requisicao == null) {
+                    registrarErro(erros, indice++, TabelaDeErros.ITEM_LOTE_INVALIDO);
+                    continue;
+                }
+
+                try {
+                    Cupom cupom = mapper.toEntity(requisicao);
+                    boolean codigoGerado = cupomService.preencherCodigoGerado(cupom);
+                    ValidadorDeCupom.validar(cupom);
+                    cupom.setStatus(Status.ACTIVE);
+                    bloco.add(new ItemLote(indice, cupom, codigoGerado));
+                } catch (NegocioException e) {
+                    registrarErro(erros, indice, e.getErro());
+                }
+                indice++;
+
+                if (bloco.size() == tamanhoBloco) {
+                    sucessos += gravarBloco(bloco, erros);
+                    bloco.clear();
+                }
+            }
+        }
+
+        if (!bloco.isEmpty()) {
+            sucessos += gravarBloco(bloco, erros);
+        }
+        return new ResultadoLote(indice, sucessos, erros);
+    }
+
+    // O primeiro caractere diz o formato: '[' é um array JSON, o resto é lido como NDJSON
+    private LeitorDeLote abrirLeitor(InputStream corpo) throws IOException {
+        PushbackInputStream entrada = new PushbackInputStream(corpo, 1);
+        int primeiro = entrada.read();
+        while (primeiro != -1 && Character.isWhitespace(primeiro)) {
+            primeiro = entrada.read();
+        }
+        if (primeiro != -1) {
+            entrada.unread(primeiro);
+        }
+        return primeiro == '['
+                ? new LeitorDeArray(objectMapper, objectMapper.getFactory().createParser(entrada))
+                : new LeitorNdjson(objectMapper, new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8)));
+    }
+
+    // Valida os ids na hora (uma consulta por bloco) e deixa a gravação para a FilaDeDelecao
+    public ResultadoLote deleteCupoms(List<UUID> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > LIMITE_MAXIMO_IDS) {
+            throw new NegocioException(TabelaDeErros.QUANTIDADE_IDS_INVALIDA);
+        }
+
+        List<ErroLote> erros = new ArrayList<>();
+        int enfileirados = 0;
+        for (int inicio = 0; inicio < ids.size(); inicio += tamanhoBloco) {
+            List<UUID> bloco = ids.subList(inicio, Math.min(inicio + tamanhoBloco, ids.size()));
+            Map<UUID, CupomRepository.Situacao> situacoes = buscarSituacoes(bloco);
+            for (int i = 0; i < bloco.size(); i++) {
+                UUID id = bloco.get(i);
+                CupomRepository.Situacao situacao = id == null ? null : situacoes.get(id);
+                if (situacao == null) {
+                    registrarErro(erros, inicio + i, TabelaDeErros.CUPOM_NAO_ENCONTRADO);
+                } else if (situacao.getStatus() == Status.DELETED || !filaDeDelecao.enfileirar(id)) {
+                    registrarErro(erros, inicio + i, TabelaDeErros.CUPOM_JA_DELETADO);
+                } else {
+                    // Enfileirado já conta como deletado: o /validation deixa de aceitar o código agora, não na descarga
+                    cuponsValidos.remover(situacao.getCode());
+                    enfileirados++;
+                }
+            }
+        }
+        return new ResultadoLote(ids.size(), enfileirados, erros);
+    }
+
+    private Map<UUID, CupomRepository.Situacao> buscarSituacoes(List<UUID> bloco) {
+        Set<UUID> ids = new HashSet<>(bloco);
+        ids.remove(null);
+        Map<UUID, CupomRepository.Situacao> situacoes = new HashMap<>(ids.size() * 2);
+        if (!ids.isEmpty()) {
+            for (CupomRepository.Situacao situacao : cupomRepository.buscarSituacoes(ids)) {
+                situacoes.put(situacao.getId(), situacao);
+            }
+        }
+        return situacoes;
+    }
+
+    private int gravarBloco(List<ItemLote> bloco, List<ErroLote> erros) {
+        List<ItemLote> aceitos = descartarCodigosRepetidos(bloco, erros);
+        if (aceitos.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(transacao -> {
+                List<UUID> ids = new ArrayList<>(aceitos.size());
+                for (ItemLote item : aceitos) {
+                    entityManager.persist(item.cupom);
+                    ids.add(item.cupom.getId());
+                }
+                entityManager.flush();
+                entityManager.clear();
+                eventoCupomRepository.registrarEmLote(ids, TipoEventoCupom.CRIADO.name(),
+                                                      LocalDateTime.now(ZoneOffset.UTC));
+            });
+            registrarCodigos(aceitos);
+            return aceitos.size();
+        } catch (DataIntegrityViolationException | PersistenceException e) {
+            // Outro cliente gravou um dos códigos entre a checagem e o flush: refaz item a item
+            return gravarIndividualmente(aceitos, erros);
+        }
+    }
+
+    private List<ItemLote> descartarCodigosRepetidos(List<ItemLote> bloco, List<ErroLote> erros) {
+        Set<String> codigos = new HashSet<>(bloco.size() * 2);
+        for (ItemLote item : bloco) {
+            if (!item.codigoGerado) {
+                codigos.add(item.cupom.getCode());
+            }
+        }
+        // Códigos vindos do gerador já são únicos; só os informados pelo cliente vão ao banco
+        Set<String> ocupados = codigos.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(cupomRepository.buscarCodigosExistentes(codigos));
+
+        List<ItemLote> aceitos = new ArrayList<>(bloco.size());
+        for (ItemLote item : bloco) {
+            // add() devolve false tanto para códigos já gravados quanto para repetidos dentro do próprio lote
+            if (ocupados.add(item.cupom.getCode())) {
+                aceitos.add(item);
+            } else {
+                registrarErro(erros, item.indice, TabelaDeErros.CODIGO_JA_CADASTRADO);
+            }
+        }
+        return aceitos;
+    }
+
+    private int gravarIndividualmente(List<ItemLote> itens, List<ErroLote> erros) {
+        int gravados = 0;
+        for (ItemLote item : itens) {
+            TabelaDeErros erro = gravarItem(item);
+            if (erro == null) {
+                gravados++;
+            } else {
+                registrarErro(erros, item.indice, erro);
+            }
+        }
+        return gravados;
+    }
+
+    // Código gerado que esbarra no índice único (gravado por outra réplica) é trocado por outro, como no CupomService
+    private TabelaDeErros gravarItem(ItemLote item) {
+        for (int tentativa = 1; ; tentativa++) {
+            // O id gerado na tentativa desfeita não foi gravado; deixa o gerador atribuir outro
+            item.cupom.setId(null);
+            try {
+                transactionTemplate.executeWithoutResult(transacao -> {
+                    entityManager.persist(item.cupom);
+                    entityManager.persist(new EventoCupom(item.cupom.getId(), TipoEventoCupom.CRIADO,
+                                                          LocalDateTime.now(ZoneOffset.UTC)));
+                });
+                geradorDeCodigos.registrar(item.cupom.getCode());
+                cuponsValidos.registrar(item.cupom);
+                return null;
+            } catch (DataIntegrityViolationException | PersistenceException e) {
+                if (!item.codigoGerado) {
+                    return TabelaDeErros.CODIGO_JA_CADASTRADO;
+                }
+                if (tentativa == GeradorDeCodigos.TENTATIVAS_DE_GRAVACAO) {
+                    return TabelaDeErros.CODIGOS_ESGOTADOS;
+                }
+                try {
+                    item.cupom.setCode(geradorDeCodigos.gerar());
+                } catch (NegocioException esgotado) {
+                    return esgotado.getErro();
+                }
+            }
+        }
+    }
+
+    private void registrarCodigos(List<ItemLote> itens) {
+        for (ItemLote item : itens) {
+            if (!item.codigoGerado) {
+                geradorDeCodigos.registrar(item.cupom.getCode());
+            }
+            cuponsValidos.registrar(item.cupom);
+        }
+    }
+
+    private void registrarErro(List<ErroLote> erros, int indice, TabelaDeErros erro) {
+        erros.add(new ErroLote(indice, erro));
+        metricas.registrarErro(erro);
+    }
+
+    // avancar() lança IOException só quando o corpo ficou ilegível dali em diante; um item que não converte
+    // aparece como atual() == null e a leitura segue no próximo
+    private interface LeitorDeLote extends Closeable {
+
+        boolean avancar() throws IOException;
+
+        CupomRequest atual();
+    }
+
+    // Cada linha é um item: uma linha ilegível não atrapalha as seguintes
+    private static final class LeitorNdjson implements LeitorDeLote {
+
+        private final ObjectMapper objectMapper;
+        private final BufferedReader linhas;
+        private CupomRequest atual;
+
+        private LeitorNdjson(ObjectMapper objectMapper, BufferedReader linhas) {
+            this.objectMapper = objectMapper;
+            this.linhas = linhas;
+        }
+
+        @Override
+        public boolean avancar() throws IOException {
+            String linha;
+            do {
+                linha = linhas.readLine();
+                if (linha == null) {
+                    return false;
+                }
+            } while (linha.isBlank());
+
+            try {
+                atual = objectMapper.readValue(linha, CupomRequest.class);
+            } catch (JsonProcessingException e) {
+                atual = null;
+            }
+            return true;
+        }
+
+        @Override
+        public CupomRequest atual() {
+            return atual;
+        }
+
+        @Override
+        public void close() throws IOException {
+            linhas.close();
+        }
+    }
+
+    // Cada elemento é lido como árvore antes de virar CupomRequest: um item com tipo errado vira erro só dele,
+    // e só um erro de sintaxe interrompe o array
+    private static final class LeitorDeArray implements LeitorDeLote {
+
+        private final ObjectMapper objectMapper;
+        private final JsonParser parser;
+        private CupomRequest atual;
+
+        private LeitorDeArray(ObjectMapper objectMapper, JsonParser parser) throws IOException {
+            this.objectMapper = objectMapper;
+            this.parser = parser;
+            parser.nextToken();
+        }
+
+        @Override
+        public boolean avancar() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY) {
+                return false;
+            }
+            if (token == null) {
+                throw new JsonParseException(parser, "Array do lote sem fechamento");
+            }
+
+            JsonNode item = objectMapper.readTree(parser);
+            try {
+                atual = objectMapper.treeToValue(item, CupomRequest.class);
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                atual = null;
+            }
+            return true;
+        }
+
+        @Override
+        public CupomRequest atual() {
+            return atual;
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    private static final class ItemLote {
+
+        private final int indice;
+        private final Cupom cupom;
+        private final boolean codigoGerado;
+
+        private ItemLote(int indice, Cupom cupom, boolean codigoGerado) {
+            this.indice = indice;
+            this.cupom = cupom;
+            this.codigoGerado = codigoGerado;
+        }
+    }
+}
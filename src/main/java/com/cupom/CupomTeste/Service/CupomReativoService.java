@@ -0,0 +1,333 @@
+package com.cupom.CupomTeste.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.cupom.CupomTeste.Exception.NegocioException;
+import com.cupom.CupomTeste.Exception.TabelaDeErros;
+import com.cupom.CupomTeste.cache.CupomCache;
+import com.cupom.CupomTeste.mapper.CupomMapper;
+import com.cupom.CupomTeste.model.Cupom;
+import com.cupom.CupomTeste.model.GeradorUuidV7;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.TipoEventoCupom;
+import com.cupom.CupomTeste.model.dto.CupomFiltro;
+import com.cupom.CupomTeste.model.dto.CupomPagina;
+import com.cupom.CupomTeste.model.dto.CupomRequest;
+import com.cupom.CupomTeste.model.dto.CupomResponse;
+import com.cupom.CupomTeste.model.dto.ErroLote;
+import com.cupom.CupomTeste.model.dto.ResultadoLote;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/*
+ * Mesmas regras do CupomService sobre R2DBC, para o perfil reactive.
+ * Nenhum método bloqueia: erros de negócio seguem como Mono.error(NegocioException) até o GlobalExceptionHandler.
+ * Cada escrita grava seu evento em coupon_events na mesma transação R2DBC, como o CupomService faz no JPA.
+ */
+@Service
+@Profile("reactive")
+public class CupomReativoService {
+
+    private static final int LIMITE_MAXIMO_PAGINA = 500;
+    private static final int LIMITE_MAXIMO_CODIGOS = 10_000;
+
+    private static final String COLUNAS =
+            "select id, code, description, discount_value, expiration_date, status, published, redeemed from coupons ";
+    private static final String ORDEM_CURSOR = " order by expiration_date, id";
+
+    @Autowired
+    private DatabaseClient banco;
+
+    @Autowired
+    private TransactionalOperator transacao;
+
+    @Autowired
+    private CupomMapper mapper;
+
+    @Autowired
+    private CupomCache cache;
+
+    @Autowired
+    private GeradorDeCodigos geradorDeCodigos;
+
+    public Mono<CupomResponse> createCupom(CupomRequest cupomRequest) {
+        return Mono.fromCallable(() -> mapper.toEntity(cupomRequest))
+                   .flatMap(this::prepararEInserir)
+                   .map(mapper::toResponse);
+    }
+
+    public Mono<List<String>> gerarCodigos(int quantidade) {
+        if (quantidade < 1 || quantidade > LIMITE_MAXIMO_CODIGOS) {
+            return Mono.error(new NegocioException(TabelaDeErros.QUANTIDADE_INVALIDA));
+        }
+        // A reserva grava no banco via JPA: roda fora do event loop
+        return Mono.fromCallable(() -> geradorDeCodigos.emitir(quantidade))
+                   .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // Itens inseridos um a um na ordem de chegada; o próximo só é lido do corpo depois que o anterior grava
+    public Mono<ResultadoLote> createCupoms(Flux<CupomRequest> requisicoes) {
+        List<ErroLote> erros = new ArrayList<>();
+        return requisicoes.index()
+                .concatMap(item -> Mono.fromCallable(() -> mapper.toEntity(item.getT2()))
+                        .flatMap(this::prepararEInserir)
+                        .thenReturn(1)
+                        .onErrorResume(NegocioException.class, e -> {
+                            erros.add(new ErroLote(item.getT1().intValue(), e.getErro()));
+                            return Mono.just(0);
+                        }))
+                .reduce(new int[2], (totais, gravado) -> {
+                    totais[0]++;
+                    totais[1] += gravado;
+                    return totais;
+                })
+                .map(totais -> new ResultadoLote(totais[0], totais[1], erros));
+    }
+
+    public Mono<CupomPagina<CupomResponse>> getAllCupoms(CupomFiltro filtro, String cursor, int limite) {
+        int tamanho = Math.max(1, Math.min(limite, LIMITE_MAXIMO_PAGINA));
+        CupomCursor posicao;
+        try {
+            posicao = cursor == null || cursor.isBlank() ? null : CupomCursor.decodificar(cursor);
+        } catch (NegocioException e) {
+            return Mono.error(e);
+        }
+
+        StringBuilder sql = new StringBuilder(COLUNAS).append(condicoes(filtro));
+        if (posicao != null) {
+            sql.append(sql.indexOf("where") < 0 ? "where " : "and ")
+               .append("(expiration_date > :expirationDate or (expiration_date = :expirationDate and id > :id)) ");
+        }
+        // Um item a mais só para saber se existe próxima página
+        sql.append(ORDEM_CURSOR).append(" limit ").append(tamanho + 1);
+
+        GenericExecuteSpec consulta = vincular(banco.sql(sql.toString()), filtro);
+        if (posicao != null) {
+            consulta = consulta.bind("expirationDate", posicao.getExpirationDate())
+                               .bind("id", posicao.getId());
+        }
+        return consulta.map(CupomReativoService::paraCupom)
+                       .all()
+                       .collectList()
+                       .map(cupoms -> {
+                           String proximoCursor = null;
+                           if (cupoms.size() > tamanho) {
+                               cupoms = cupoms.subList(0, tamanho);
+                               proximoCursor = CupomCursor.depoisDe(cupoms.get(tamanho - 1)).codificar();
+                           }
+                           return new CupomPagina<>(cupoms.stream().map(mapper::toResponse).toList(), proximoCursor);
+                       });
+    }
+
+    // As linhas saem do banco conforme o cliente consome: a demanda do WebFlux chega até o cursor do R2DBC
+    public Flux<CupomResponse> streamCupoms(CupomFiltro filtro) {
+        String sql = COLUNAS + condicoes(filtro) + ORDEM_CURSOR;
+        return vincular(banco.sql(sql), filtro).map(CupomReativoService::paraCupom)
+                                               .all()
+                                               .map(mapper::toResponse);
+    }
+
+    public Mono<CupomResponse> getCupomById(UUID id) {
+        CupomResponse emCache = cache.buscar(id);
+        if (emCache != null) {
+            return Mono.just(emCache);
+        }
+        return validarCupom(id).map(cupom -> {
+            CupomResponse response = mapper.toResponse(cupom);
+            cache.armazenar(id, response);
+            return response;
+        });
+    }
+
+    public Mono<CupomResponse> getCupomByCode(String code) {
+        return resolverIdPorCodigo(code).flatMap(this::getCupomById);
+    }
+
+    public Mono<Void> deleteCupom(UUID id) {
+        return banco.sql("update coupons set status = :deletado, version = version + 1 where id = :id and status <> :deletado")
+                    .bind("deletado", Status.DELETED.name())
+                    .bind("id", id)
+                    .fetch()
+                    .rowsUpdated()
+                    .flatMap(alterados -> alterados > 0
+                            ? registrarEvento(id, TipoEventoCupom.DELETADO).thenReturn(true)
+                            : Mono.just(false))
+                    .as(transacao::transactional)
+                    .flatMap(deletado -> deletado
+                            ? Mono.<Void>empty()
+                            : validarCupom(id).then(Mono.<Void>error(new NegocioException(TabelaDeErros.CUPOM_JA_DELETADO))))
+                    .doOnTerminate(() -> cache.remover(id));
+    }
+
+    // Mesmo UPDATE condicional do CupomRepository.resgatar: só uma requisição concorrente altera a linha
+    public Mono<CupomResponse> redeemCupom(UUID id) {
+        return banco.sql("update coupons set redeemed = true, version = version + 1 "
+                       + "where id = :id and redeemed = false and status = :status and expiration_date > :agora")
+                    .bind("id", id)
+                    .bind("status", Status.ACTIVE.name())
+                    .bind("agora", LocalDateTime.now(ZoneOffset.UTC))
+                    .fetch()
+                    .rowsUpdated()
+                    .flatMap(alterados -> alterados > 0
+                            ? registrarEvento(id, TipoEventoCupom.RESGATADO).thenReturn(true)
+                            : Mono.just(false))
+                    .as(transacao::transactional)
+                    .flatMap(resgatado -> {
+                        if (!resgatado) {
+                            return validarCupom(id).flatMap(cupom -> Mono.error(new NegocioException(motivoResgateRecusado(cupom))));
+                        }
+                        cache.remover(id);
+                        return getCupomById(id);
+                    });
+    }
+
+    public Mono<CupomResponse> redeemCupomByCode(String code) {
+        return resolverIdPorCodigo(code).flatMap(this::redeemCupom);
+    }
+
+    private Mono<Cupom> prepararEInserir(Cupom cupom) {
+        boolean codigoGerado = cupom.getCode() == null || cupom.getCode().isBlank();
+        if (codigoGerado) {
+            cupom.setCode(geradorDeCodigos.gerar());
+        }
+        ValidadorDeCupom.validar(cupom);
+        cupom.setId(GeradorUuidV7.gerar());
+        cupom.setStatus(Status.ACTIVE); // status padrão
+        return inserir(cupom, codigoGerado, 1);
+    }
+
+    // Código gerado que esbarra no índice único (gravado por outra réplica) é trocado por outro, como no CupomService.
+    // Cada tentativa é uma transação: a nova não herda uma transação que o banco pode ter abortado na violação
+    private Mono<Cupom> inserir(Cupom cupom, boolean codigoGerado, int tentativa) {
+        GenericExecuteSpec insercao = banco.sql("insert into coupons "
+                + "(id, code, description, discount_value, expiration_date, status, published, redeemed) "
+                + "values (:id, :code, :description, :discountValue, :expirationDate, :status, :published, false)")
+                .bind("id", cupom.getId())
+                .bind("code", cupom.getCode())
+                .bind("discountValue", cupom.getDiscountValue())
+                .bind("expirationDate", cupom.getExpirationDate())
+                .bind("status", cupom.getStatus().name())
+                .bind("published", cupom.isPublished());
+        insercao = cupom.getDescription() == null
+                ? insercao.bindNull("description", String.class)
+                : insercao.bind("description", cupom.getDescription());
+        return insercao.then()
+                       .then(registrarEvento(cupom.getId(), TipoEventoCupom.CRIADO))
+                       .as(transacao::transactional)
+                       .doOnSuccess(nada -> geradorDeCodigos.registrar(cupom.getCode()))
+                       .thenReturn(cupom)
+                       .onErrorResume(DataIntegrityViolationException.class, e -> {
+                           if (!codigoGerado) {
+                               return Mono.error(new NegocioException(TabelaDeErros.CODIGO_JA_CADASTRADO));
+                           }
+                           if (tentativa == GeradorDeCodigos.TENTATIVAS_DE_GRAVACAO) {
+                               return Mono.error(new NegocioException(TabelaDeErros.CODIGOS_ESGOTADOS));
+                           }
+                           cupom.setCode(geradorDeCodigos.gerar());
+                           return inserir(cupom, true, tentativa + 1);
+                       });
+    }
+
+    private Mono<Void> registrarEvento(UUID id, TipoEventoCupom tipo) {
+        return banco.sql("insert into coupon_events (cupom_id, tipo, ocorrido_em) values (:id, :tipo, :agora)")
+                    .bind("id", id)
+                    .bind("tipo", tipo.name())
+                    .bind("agora", LocalDateTime.now(ZoneOffset.UTC))
+                    .then();
+    }
+
+    private Mono<UUID> resolverIdPorCodigo(String code) {
+        String sanitizedCode;
+        try {
+            sanitizedCode = ValidadorDeCupom.normalizarCodigo(code);
+        } catch (NegocioException e) {
+            return Mono.error(e);
+        }
+
+        UUID id = cache.buscarIdPorCodigo(sanitizedCode);
+        if (id != null) {
+            return Mono.just(id);
+        }
+        return banco.sql("select id from coupons where code = :code")
+                    .bind("code", sanitizedCode)
+                    .map(linha -> linha.get("id", UUID.class))
+                    .one()
+                    .switchIfEmpty(Mono.error(new NegocioException(TabelaDeErros.CUPOM_NAO_ENCONTRADO)))
+                    .doOnNext(encontrado -> cache.armazenarCodigo(sanitizedCode, encontrado));
+    }
+
+    private Mono<Cupom> validarCupom(UUID id) {
+        return banco.sql(COLUNAS + "where id = :id")
+                    .bind("id", id)
+                    .map(CupomReativoService::paraCupom)
+                    .one()
+                    .switchIfEmpty(Mono.error(new NegocioException(TabelaDeErros.CUPOM_NAO_ENCONTRADO)));
+    }
+
+    private static TabelaDeErros motivoResgateRecusado(Cupom cupom) {
+        if (cupom.getStatus() == Status.DELETED) {
+            return TabelaDeErros.CUPOM_JA_DELETADO;
+        }
+        if (cupom.isRedeemed()) {
+            return TabelaDeErros.CUPOM_JA_RESGATADO;
+        }
+        return TabelaDeErros.CUPOM_EXPIRADO;
+    }
+
+    // Só entram no SQL os filtros informados, para não precisar vincular nulos tipados
+    private static String condicoes(CupomFiltro filtro) {
+        List<String> condicoes = new ArrayList<>(3);
+        if (filtro.getStatus() != null) {
+            condicoes.add("status = :status");
+        }
+        if (filtro.getPublished() != null) {
+            condicoes.add("published = :published");
+        }
+        if (filtro.getRedeemed() != null) {
+            condicoes.add("redeemed = :redeemed");
+        }
+        return condicoes.isEmpty() ? "" : "where " + String.join(" and ", condicoes) + " ";
+    }
+
+    private static GenericExecuteSpec vincular(GenericExecuteSpec consulta, CupomFiltro filtro) {
+        if (filtro.getStatus() != null) {
+            consulta = consulta.bind("status", filtro.getStatus().name());
+        }
+        if (filtro.getPublished() != null) {
+            consulta = consulta.bind("published", filtro.getPublished());
+        }
+        if (filtro.getRedeemed() != null) {
+            consulta = consulta.bind("redeemed", filtro.getRedeemed());
+        }
+        return consulta;
+    }
+
+    private static Cupom paraCupom(Readable linha) {
+        Cupom cupom = new Cupom();
+        cupom.setId(linha.get("id", UUID.class));
+        cupom.setCode(linha.get("code", String.class));
+        cupom.setDescription(linha.get("description", String.class));
+        cupom.setDiscountValue(linha.get("discount_value", BigDecimal.class));
+        cupom.setExpirationDate(linha.get("expiration_date", LocalDateTime.class));
+        cupom.setStatus(Status.valueOf(linha.get("status", String.class)));
+        cupom.setPublished(Boolean.TRUE.equals(linha.get("published", Boolean.class)));
+        cupom.setRedeemed(Boolean.TRUE.equals(linha.get("redeemed", Boolean.class)));
+        return cupom;
+    }
+}
@@ -1,82 +1,490 @@
 package com.cupom.CupomTeste.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
-import java.time.OffsetDateTime;
+import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.cupom.CupomTeste.Exception.NegocioException;
 import com.cupom.CupomTeste.Exception.TabelaDeErros;
 import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.Repository.EventoCupomRepository;
+import com.cupom.CupomTeste.cache.ConsultasEmAndamento;
+import com.cupom.CupomTeste.cache.CupomCache;
+import com.cupom.CupomTeste.cache.CuponsValidos;
+import com.cupom.CupomTeste.cache.TabelaDeCupons;
 import com.cupom.CupomTeste.mapper.CupomMapper;
 import com.cupom.CupomTeste.model.Cupom;
+import com.cupom.CupomTeste.model.EventoCupom;
 import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.TipoEventoCupom;
+import com.cupom.CupomTeste.model.dto.CupomFiltro;
+import com.cupom.CupomTeste.model.dto.CupomPagina;
+import com.cupom.CupomTeste.model.dto.CupomPatchRequest;
 import com.cupom.CupomTeste.model.dto.CupomRequest;
 import com.cupom.CupomTeste.model.dto.CupomResponse;
+import com.cupom.CupomTeste.model.dto.CupomResumo;
+import com.cupom.CupomTeste.model.dto.ValidacaoCupom;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.micrometer.core.annotation.Timed;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class CupomService {
 
+    private static final int LIMITE_MAXIMO_PAGINA = 500;
+    private static final int LIMITE_MAXIMO_CODIGOS = 10_000;
+    private static final int TENTATIVAS_DE_ALTERACAO = 3;
+
     @Autowired
     private CupomRepository cupomRepository;
 
+    @Autowired
+    private EventoCupomRepository eventoCupomRepository;
+
     @Autowired
     private CupomMapper mapper;
 
+    @Autowired
+    private CupomCache cache;
+
+    @Autowired
+    private ConsultasEmAndamento consultas;
+
+    @Autowired
+    private ApplicationEventPublisher eventos;
+
+    @Autowired
+    private GeradorDeCodigos geradorDeCodigos;
+
+    @Autowired
+    private FilaDeDelecao filaDeDelecao;
+
+    @Autowired
+    private CuponsValidos cuponsValidos;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Timed(value = "cupom.servico", histogram = true)
     public ResponseEntity<CupomResponse> createCupom(CupomRequest cupomRequest) {
         Cupom cupom = mapper.toEntity(cupomRequest);
-        validarDadosCupom(cupom);
+        boolean codigoGerado = preencherCodigoGerado(cupom);
+        ValidadorDeCupom.validar(cupom);
         cupom.setStatus(Status.ACTIVE); // status padrão
-        Cupom salvo = cupomRepository.save(cupom);
+        Cupom salvo;
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                // O cupom e o evento da caixa de saída entram juntos ou não entram
+                salvo = transactionTemplate.execute(transacao -> {
+                    Cupom novo = cupomRepository.save(cupom);
+                    registrarEvento(novo.getId(), TipoEventoCupom.CRIADO);
+                    eventos.publishEvent(new CupomAlteradoEvent(novo.getId()));
+                    return novo;
+                });
+                break;
+            } catch (DataIntegrityViolationException e) {
+                // Um código que o cliente não informou só repete se outra réplica gravou o mesmo: troca e tenta de novo
+                if (!codigoGerado) {
+                    throw new NegocioException(TabelaDeErros.CODIGO_JA_CADASTRADO);
+                }
+                if (tentativa == GeradorDeCodigos.TENTATIVAS_DE_GRAVACAO) {
+                    throw new NegocioException(TabelaDeErros.CODIGOS_ESGOTADOS);
+                }
+                cupom.setId(null);
+                cupom.setCode(geradorDeCodigos.gerar());
+            }
+        }
+        geradorDeCodigos.registrar(salvo.getCode());
         return ResponseEntity.status(201)
                              .body(mapper.toResponse(salvo));
     }
 
-    public ResponseEntity<List<CupomResponse>> getAllCupoms() {
-        List<Cupom> cupoms = cupomRepository.findAll();
+    public ResponseEntity<List<String>> gerarCodigos(int quantidade) {
+        if (quantidade < 1 || quantidade > LIMITE_MAXIMO_CODIGOS) {
+            throw new NegocioException(TabelaDeErros.QUANTIDADE_INVALIDA);
+        }
+        return ResponseEntity.ok(geradorDeCodigos.emitir(quantidade));
+    }
+
+    @Timed(value = "cupom.servico", histogram = true)
+    public ResponseEntity<CupomPagina<CupomResponse>> getAllCupoms(CupomFiltro filtro, String cursor, int limite) {
+        int tamanho = Math.max(1, Math.min(limite, LIMITE_MAXIMO_PAGINA));
+        // Busca um item a mais só para saber se existe próxima página
+        Pageable pagina = PageRequest.ofSize(tamanho + 1);
+        descarregarSeFiltroDeletado(filtro);
+
+        List<Cupom> cupoms;
+        if (cursor == null || cursor.isBlank()) {
+            cupoms = cupomRepository.buscarPagina(filtro.getStatus(), filtro.getPublished(),
+                                                  filtro.getRedeemed(), pagina);
+        } else {
+            CupomCursor posicao = CupomCursor.decodificar(cursor);
+            cupoms = cupomRepository.buscarPaginaApos(filtro.getStatus(), filtro.getPublished(),
+                                                      filtro.getRedeemed(), posicao.getExpirationDate(),
+                                                      posicao.getId(), pagina);
+        }
+
+        String proximoCursor = proximoCursor(cupoms, tamanho, CupomCursor::depoisDe);
         List<CupomResponse> responses = cupoms.stream()
-                                              .map(mapper::toResponse)
+                                              .limit(tamanho)
+                                              .filter(cupom -> !ocultoPelaFila(cupom.getId(), filtro))
+                                              .map(cupom -> comDelecaoPendente(mapper.toResponse(cupom)))
                                               .toList();
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(new CupomPagina<>(responses, proximoCursor));
     }
 
+    // Listagem sem description: a consulta já devolve o DTO, sem entidades no contexto de persistência
+    @Timed(value = "cupom.servico", histogram = true)
+    public ResponseEntity<CupomPagina<CupomResumo>> getCupomSummaries(CupomFiltro filtro, String cursor, int limite) {
+        int tamanho = Math.max(1, Math.min(limite, LIMITE_MAXIMO_PAGINA));
+        Pageable pagina = PageRequest.ofSize(tamanho + 1);
+        descarregarSeFiltroDeletado(filtro);
+
+        List<CupomResumo> resumos;
+        if (cursor == null || cursor.isBlank()) {
+            resumos = cupomRepository.buscarResumos(filtro.getStatus(), filtro.getPublished(),
+                                                    filtro.getRedeemed(), pagina);
+        } else {
+            CupomCursor posicao = CupomCursor.decodificar(cursor);
+            resumos = cupomRepository.buscarResumosApos(filtro.getStatus(), filtro.getPublished(),
+                                                        filtro.getRedeemed(), posicao.getExpirationDate(),
+                                                        posicao.getId(), pagina);
+        }
+
+        String proximoCursor = proximoCursor(resumos, tamanho, CupomCursor::depoisDe);
+        List<CupomResumo> itens = resumos.stream()
+                                         .limit(tamanho)
+                                         .filter(resumo -> !ocultoPelaFila(resumo.getId(), filtro))
+                                         .map(this::comDelecaoPendente)
+                                         .toList();
+        return ResponseEntity.ok(new CupomPagina<>(itens, proximoCursor));
+    }
+
+    // Um id na fila de deleção não casa mais com filtro por outro status; a página pode vir mais curta, e o cursor
+    // (calculado antes) continua certo
+    private boolean ocultoPelaFila(UUID id, CupomFiltro filtro) {
+        return filtro.getStatus() != null && filtro.getStatus() != Status.DELETED && filaDeDelecao.pendente(id);
+    }
+
+    // Filtro por DELETED grava a fila antes: os ids pendentes passam a vir do próprio banco
+    private void descarregarSeFiltroDeletado(CupomFiltro filtro) {
+        if (filtro.getStatus() == Status.DELETED && filaDeDelecao.quantidadePendentes() > 0) {
+            filaDeDelecao.descarregar();
+        }
+    }
+
+    // Foi buscado um item a mais; se ele veio, a próxima página começa depois do último entregue
+    private static <T> String proximoCursor(List<T> itens, int tamanho, Function<T, CupomCursor> posicao) {
+        return itens.size() > tamanho ? posicao.apply(itens.get(tamanho - 1)).codificar() : null;
+    }
+
+    // Escreve uma linha JSON por cupom enquanto lê do cursor JDBC; a memória não depende do tamanho da tabela
+    public StreamingResponseBody streamCupoms(CupomFiltro filtro) {
+        // A entidade vai direto para o gerador (ModuloCupom), sem montar um CupomResponse por linha
+        ObjectWriter escritor = objectMapper.writerFor(Cupom.class)
+                                            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return saida -> {
+            descarregarSeFiltroDeletado(filtro);
+            escrever(saida, filtro, escritor);
+        };
+    }
+
+    private void escrever(OutputStream saida, CupomFiltro filtro, ObjectWriter escritor) {
+        transactionTemplate.executeWithoutResult(transacao -> {
+            try (Stream<Cupom> cupoms = cupomRepository.streamOrdenado(filtro.getStatus(),
+                                                                      filtro.getPublished(),
+                                                                      filtro.getRedeemed());
+                 JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+                gerador.setRootValueSeparator(null);
+                Iterator<Cupom> iterador = cupoms.iterator();
+                while (iterador.hasNext()) {
+                    Cupom cupom = iterador.next();
+                    if (filaDeDelecao.pendente(cupom.getId())) {
+                        if (ocultoPelaFila(cupom.getId(), filtro)) {
+                            entityManager.detach(cupom);
+                            continue;
+                        }
+                        // Sai como DELETED: a description (lazy) é lida antes de soltar a entidade, e o status só
+                        // muda depois, para não virar UPDATE no commit
+                        cupom.getDescription();
+                        entityManager.detach(cupom);
+                        cupom.setStatus(Status.DELETED);
+                    }
+                    escritor.writeValue(gerador, cupom);
+                    gerador.writeRaw('\n');
+                    // Solta a entidade do contexto de persistência para não acumular linhas já enviadas
+                    entityManager.detach(cupom);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Timed(value = "cupom.servico", histogram = true)
     public ResponseEntity<CupomResponse> getCupomById(UUID id) {
-        Cupom cupom = validarCupom(id);
-        return ResponseEntity.ok(mapper.toResponse(cupom));
+        CupomResponse emCache = cache.buscar(id);
+        if (emCache != null) {
+            return ResponseEntity.ok(comDelecaoPendente(emCache));
+        }
+
+        return ResponseEntity.ok(comDelecaoPendente(consultas.porId(id, () -> carregarPorId(id))));
     }
 
+    @Timed(value = "cupom.servico", histogram = true)
+    public ResponseEntity<CupomResponse> getCupomByCode(String code) {
+        String sanitizedCode = ValidadorDeCupom.normalizarCodigo(code);
+
+        UUID id = cache.buscarIdPorCodigo(sanitizedCode);
+        if (id != null) {
+            return getCupomById(id);
+        }
+
+        return ResponseEntity.ok(comDelecaoPendente(consultas.porCodigo(sanitizedCode,
+                                                                        () -> carregarPorCodigo(sanitizedCode))));
+    }
+
+    // Um id na fila de deleção em lote já foi deletado para o cliente, mesmo antes de o UPDATE chegar ao banco.
+    // Devolve uma cópia: a resposta em cache é compartilhada e volta a valer se a deleção não for gravada
+    private CupomResponse comDelecaoPendente(CupomResponse response) {
+        if (!filaDeDelecao.pendente(response.getId())) {
+            return response;
+        }
+        return new CupomResponse(response.getId(), response.getCode(), response.getDescription(),
+                                 response.getDiscountValue(), response.getExpirationDate(), Status.DELETED,
+                                 response.isPublished(), response.isRedeemed());
+    }
+
+    private CupomResumo comDelecaoPendente(CupomResumo resumo) {
+        if (!filaDeDelecao.pendente(resumo.getId())) {
+            return resumo;
+        }
+        return new CupomResumo(resumo.getId(), resumo.getCode(), resumo.getDiscountValue(),
+                               resumo.getExpirationDate(), Status.DELETED, resumo.isPublished(), resumo.isRedeemed());
+    }
+
+    // Só a chamada que lidera o voo chega aqui; as simultâneas para o mesmo id recebem o mesmo resultado
+    private CupomResponse carregarPorId(UUID id) {
+        Cupom cupom = cupomRepository.buscarCompleto(id)
+                .orElseThrow(() -> new NegocioException(TabelaDeErros.CUPOM_NAO_ENCONTRADO));
+        CupomResponse response = mapper.toResponse(cupom);
+        cache.armazenar(id, response);
+        return response;
+    }
+
+    private CupomResponse carregarPorCodigo(String sanitizedCode) {
+        Cupom cupom = cupomRepository.findByCode(sanitizedCode)
+                .orElseThrow(() -> new NegocioException(TabelaDeErros.CUPOM_NAO_ENCONTRADO));
+        CupomResponse response = mapper.toResponse(cupom);
+        cache.armazenarCodigo(sanitizedCode, cupom.getId());
+        cache.armazenar(cupom.getId(), response);
+        return response;
+    }
+
+    @Timed(value = "cupom.servico", histogram = true)
+    public ResponseEntity<CupomResumo> getCupomSummaryByCode(String code) {
+        String sanitizedCode = ValidadorDeCupom.normalizarCodigo(code);
+
+        UUID id = cache.buscarIdPorCodigo(sanitizedCode);
+        CupomResponse emCache = id == null ? null : cache.buscar(id);
+        if (emCache != null) {
+            return ResponseEntity.ok(comDelecaoPendente(mapper.toResumo(emCache)));
+        }
+
+        CupomResumo resumo = cupomRepository.buscarResumoPorCodigo(sanitizedCode)
+                .orElseThrow(() -> new NegocioException(TabelaDeErros.CUPOM_NAO_ENCONTRADO));
+        cache.armazenarCodigo(sanitizedCode, resumo.getId());
+        return ResponseEntity.ok(comDelecaoPendente(resumo));
+    }
+
+    // Caminho rápido do checkout: responde pela tabela fora do heap, sem consultar o banco.
+    // A deleção em lote tira o código da tabela já ao enfileirar (CupomLoteService.deleteCupoms)
+    @Timed(value = "cupom.servico", histogram = true)
+    public ResponseEntity<ValidacaoCupom> validateCupomCode(String code) {
+        String sanitizedCode = ValidadorDeCupom.normalizarCodigo(code);
+        long centavos = cuponsValidos.descontoSeValido(sanitizedCode);
+        if (centavos == TabelaDeCupons.INVALIDO) {
+            return ResponseEntity.ok(new ValidacaoCupom(sanitizedCode, false, null));
+        }
+        return ResponseEntity.ok(new ValidacaoCupom(sanitizedCode, true, BigDecimal.valueOf(centavos, 2)));
+    }
+
+    @Timed(value = "cupom.servico", histogram = true)
     public ResponseEntity<Void> deleteCupom(UUID id) {
-        Cupom cupom = validarCupom(id);
+        // Um id ainda na fila de deleção em lote já foi deletado para o cliente
+        if (filaDeDelecao.pendente(id)) {
+            throw new NegocioException(TabelaDeErros.CUPOM_JA_DELETADO);
+        }
 
-        if (cupom.getStatus() == Status.DELETED) {
+        boolean deletado = transactionTemplate.execute(transacao -> {
+            if (cupomRepository.deletar(id, Status.DELETED) == 0) {
+                return false;
+            }
+            registrarEvento(id, TipoEventoCupom.DELETADO);
+            eventos.publishEvent(new CupomAlteradoEvent(id));
+            return true;
+        });
+        if (!deletado) {
+            validarCupom(id); // inexistente
             throw new NegocioException(TabelaDeErros.CUPOM_JA_DELETADO);
         }
 
-        cupom.setStatus(Status.DELETED);
-        cupomRepository.save(cupom);
         return ResponseEntity.noContent().build();
     }
 
-    private void validarDadosCupom(Cupom cupom) {
-        String sanitizedCode = cupom.getCode().replaceAll("[^a-zA-Z0-9]", "");
-        if (sanitizedCode.length() != 6) {
-            throw new NegocioException(TabelaDeErros.CODIGO_INVALIDO);
+    // Só os campos informados e de fato diferentes ficam sujos; com @DynamicUpdate o UPDATE leva apenas essas colunas
+    @Timed(value = "cupom.servico", histogram = true)
+    public ResponseEntity<CupomResponse> patchCupom(UUID id, CupomPatchRequest alteracoes) {
+        // Trava otimista: se uma deleção, resgate ou expiração gravou a linha depois da leitura, o UPDATE
+        // não casa a versão e a alteração é refeita sobre o estado novo (que pode até recusá-la)
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return ResponseEntity.ok(aplicarAlteracoes(id, alteracoes));
+            } catch (OptimisticLockingFailureException e) {
+                if (tentativa == TENTATIVAS_DE_ALTERACAO) {
+                    throw new NegocioException(TabelaDeErros.ALTERACAO_CONCORRENTE);
+                }
+            }
+        }
+    }
+
+    private CupomResponse aplicarAlteracoes(UUID id, CupomPatchRequest alteracoes) {
+        // A resposta é montada ainda na transação: a description é lazy e só é lida aqui se não foi alterada
+        return transactionTemplate.execute(transacao -> {
+            Cupom cupom = validarCupom(id);
+            if (cupom.getStatus() == Status.DELETED || filaDeDelecao.pendente(id)) {
+                throw new NegocioException(TabelaDeErros.CUPOM_JA_DELETADO);
+            }
+
+            boolean alterado = false;
+            if (alteracoes.getPublished() != null && alteracoes.getPublished() != cupom.isPublished()) {
+                cupom.setPublished(alteracoes.getPublished());
+                alterado = true;
+            }
+            if (alteracoes.getDiscountValue() != null
+                    && alteracoes.getDiscountValue().compareTo(cupom.getDiscountValue()) != 0) {
+                ValidadorDeCupom.validarDesconto(alteracoes.getDiscountValue());
+                cupom.setDiscountValue(alteracoes.getDiscountValue());
+                alterado = true;
+            }
+            if (alteracoes.getExpirationDate() != null
+                    && !alteracoes.getExpirationDate().equals(cupom.getExpirationDate())) {
+                ValidadorDeCupom.validarExpiracao(alteracoes.getExpirationDate());
+                cupom.setExpirationDate(alteracoes.getExpirationDate());
+                // Nova data no futuro: o cupom volta a valer
+                if (cupom.getStatus() == Status.EXPIRED) {
+                    cupom.setStatus(Status.ACTIVE);
+                }
+                alterado = true;
+            }
+            if (alteracoes.getDescription() != null && !alteracoes.getDescription().equals(cupom.getDescription())) {
+                cupom.setDescription(alteracoes.getDescription());
+                alterado = true;
+            }
+
+            // PATCH sem efeito não grava nada nem gera evento
+            if (alterado) {
+                registrarEvento(id, TipoEventoCupom.ALTERADO);
+                eventos.publishEvent(new CupomAlteradoEvent(id));
+            }
+            return mapper.toResponse(cupom);
+        });
+    }
+
+    @Timed(value = "cupom.servico", histogram = true)
+    public ResponseEntity<CupomResponse> redeemCupom(UUID id) {
+        // Mesma regra do deleteCupom e do patchCupom: pendente na fila de deleção conta como deletado
+        if (filaDeDelecao.pendente(id)) {
+            throw new NegocioException(TabelaDeErros.CUPOM_JA_DELETADO);
+        }
+
+        boolean resgatado = transactionTemplate.execute(transacao -> {
+            if (cupomRepository.resgatar(id, Status.ACTIVE, LocalDateTime.now(ZoneOffset.UTC)) == 0) {
+                return false;
+            }
+            registrarEvento(id, TipoEventoCupom.RESGATADO);
+            eventos.publishEvent(new CupomAlteradoEvent(id));
+            return true;
+        });
+        if (!resgatado) {
+            throw new NegocioException(motivoResgateRecusado(validarCupom(id)));
+        }
+
+        // Lê direto, sem entrar num voo iniciado antes do resgate, que ainda traria redeemed=false
+        return ResponseEntity.ok(carregarPorId(id));
+    }
+
+    @Timed(value = "cupom.servico", histogram = true)
+    public ResponseEntity<CupomResponse> redeemCupomByCode(String code) {
+        return redeemCupom(resolverIdPorCodigo(code));
+    }
+
+    // Só é chamado quando o UPDATE não alterou nada, para explicar ao cliente o porquê
+    private TabelaDeErros motivoResgateRecusado(Cupom cupom) {
+        if (cupom.getStatus() == Status.DELETED) {
+            return TabelaDeErros.CUPOM_JA_DELETADO;
         }
-        cupom.setCode(sanitizedCode);
+        if (cupom.isRedeemed()) {
+            return TabelaDeErros.CUPOM_JA_RESGATADO;
+        }
+        return TabelaDeErros.CUPOM_EXPIRADO;
+    }
+
+    private UUID resolverIdPorCodigo(String code) {
+        String sanitizedCode = ValidadorDeCupom.normalizarCodigo(code);
 
-        if (cupom.getDiscountValue().compareTo(BigDecimal.valueOf(0.5)) < 0) {
-            throw new NegocioException(TabelaDeErros.VALOR_DESCONTO_INVALIDO);
+        UUID id = cache.buscarIdPorCodigo(sanitizedCode);
+        if (id == null) {
+            id = cupomRepository.buscarIdPorCodigo(sanitizedCode)
+                    .orElseThrow(() -> new NegocioException(TabelaDeErros.CUPOM_NAO_ENCONTRADO));
+            cache.armazenarCodigo(sanitizedCode, id);
         }
+        return id;
+    }
 
-        OffsetDateTime expiration = cupom.getExpirationDate().atOffset(ZoneOffset.UTC);
-        if (expiration.isBefore(OffsetDateTime.now(ZoneOffset.UTC))) {
-            throw new NegocioException(TabelaDeErros.DATA_EXPIRACAO_INVALIDA);
+    // Sem código informado, usa um do gerador, que já vem reservado e dispensa checagem no banco
+    boolean preencherCodigoGerado(Cupom cupom) {
+        if (cupom.getCode() != null && !cupom.getCode().isBlank()) {
+            return false;
         }
+        cupom.setCode(geradorDeCodigos.gerar());
+        return true;
+    }
+
+    // Chamado dentro da transação da alteração: se ela voltar atrás, o evento some junto
+    private void registrarEvento(UUID id, TipoEventoCupom tipo) {
+        eventoCupomRepository.save(new EventoCupom(id, tipo, LocalDateTime.now(ZoneOffset.UTC)));
     }
 
     private Cupom validarCupom(UUID id) {
@@ -0,0 +1,108 @@
+package com.cupom.CupomTeste.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.Repository.EventoCupomRepository;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.TipoEventoCupom;
+
+/*
+ * Passa para EXPIRED os cupons ACTIVE cuja data já venceu.
+ * Cada lote é uma transação curta que só trava as linhas do próprio lote, e a marca d'água
+ * (expirationDate, id) do último cupom expirado faz a passada seguinte começar de onde esta parou.
+ */
+@Component
+public class ExpiradorDeCupons {
+
+    @Autowired
+    private CupomRepository cupomRepository;
+
+    @Autowired
+    private EventoCupomRepository eventoCupomRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventos;
+
+    @Value("${cupom.expiracao.tamanho-lote:1000}")
+    private int tamanhoLote;
+
+    private final ReentrantLock execucao = new ReentrantLock();
+
+    // Vazia ao subir a aplicação: a primeira passada cobre todo o histórico
+    private CupomCursor marcaDagua;
+
+    @Scheduled(fixedDelayString = "${cupom.expiracao.intervalo:PT1M}")
+    public void agendar() {
+        expirar();
+    }
+
+    // Devolve quantos cupons foram expirados; uma passada já em andamento não é repetida
+    public int expirar() {
+        if (!execucao.tryLock()) {
+            return 0;
+        }
+        try {
+            LocalDateTime agora = LocalDateTime.now(ZoneOffset.UTC);
+            Pageable lote = PageRequest.ofSize(tamanhoLote);
+            int total = 0;
+            int expirados;
+            do {
+                expirados = transactionTemplate.execute(transacao -> expirarLote(agora, lote));
+                total += expirados;
+            } while (expirados == tamanhoLote);
+            return total;
+        } finally {
+            execucao.unlock();
+        }
+    }
+
+    private int expirarLote(LocalDateTime agora, Pageable lote) {
+        List<CupomCursor> vencidos = marcaDagua == null
+                ? cupomRepository.buscarExpirados(Status.ACTIVE, agora, lote)
+                : cupomRepository.buscarExpiradosApos(Status.ACTIVE, agora, marcaDagua.getExpirationDate(),
+                                                      marcaDagua.getId(), lote);
+        if (vencidos.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> ids = new ArrayList<>(vencidos.size());
+        for (CupomCursor vencido : vencidos) {
+            ids.add(vencido.getId());
+        }
+        // Só as linhas que ainda casam com o UPDATE ganham evento; as deletadas ou reativadas no meio ficam de fora
+        List<CupomRepository.Situacao> travados = cupomRepository.travarVencidos(ids, Status.ACTIVE, agora);
+        if (!travados.isEmpty()) {
+            List<UUID> expirados = new ArrayList<>(travados.size());
+            for (CupomRepository.Situacao travado : travados) {
+                expirados.add(travado.getId());
+            }
+            cupomRepository.alterarStatus(expirados, Status.ACTIVE, Status.EXPIRED, agora);
+            eventoCupomRepository.registrarEmLote(expirados, TipoEventoCupom.EXPIRADO.name(), agora);
+            // O código já vai no evento: a tabela de validação remove sem reler cada linha
+            for (CupomRepository.Situacao travado : travados) {
+                eventos.publishEvent(new CupomAlteradoEvent(travado.getId(), travado.getCode()));
+            }
+        }
+
+        marcaDagua = vencidos.get(vencidos.size() - 1);
+        return vencidos.size();
+    }
+}
@@ -0,0 +1,142 @@
+package com.cupom.CupomTeste.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.Repository.EventoCupomRepository;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.TipoEventoCupom;
+
+import jakarta.annotation.PreDestroy;
+
+/*
+ * Deleções lógicas com escrita adiada: os ids se acumulam em memória e são gravados em blocos
+ * com um único UPDATE ... WHERE id IN (...) a cada intervalo, ou antes disso quando o bloco enche.
+ * Um id pendente já conta como deletado em todas as rotas do CupomService desta instância. No desligamento tudo
+ * é gravado. A fila é por JVM: as outras réplicas só veem a deleção depois da descarga, ou seja, com atraso de até
+ * cupom.delecao.intervalo (mais o TTL do cache local delas).
+ */
+@Component
+public class FilaDeDelecao {
+
+    private static final Logger log = LoggerFactory.getLogger(FilaDeDelecao.class);
+
+    private final Set<UUID> pendentes = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock descarga = new ReentrantLock();
+
+    @Autowired
+    private CupomRepository cupomRepository;
+
+    @Autowired
+    private EventoCupomRepository eventoCupomRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventos;
+
+    @Value("${cupom.delecao.tamanho-lote:1000}")
+    private int tamanhoLote;
+
+    // false quando o id já estava na fila
+    public boolean enfileirar(UUID id) {
+        if (!pendentes.add(id)) {
+            return false;
+        }
+        if (pendentes.size() >= tamanhoLote) {
+            descarregar();
+        }
+        return true;
+    }
+
+    public boolean pendente(UUID id) {
+        return pendentes.contains(id);
+    }
+
+    public int quantidadePendentes() {
+        return pendentes.size();
+    }
+
+    @Scheduled(fixedDelayString = "${cupom.delecao.intervalo:PT1S}")
+    public void agendar() {
+        descarregar();
+    }
+
+    // Grava tudo o que estava pendente; devolve quantas linhas mudaram para DELETED
+    public int descarregar() {
+        descarga.lock();
+        try {
+            int deletados = 0;
+            List<UUID> bloco = new ArrayList<>(tamanhoLote);
+            Iterator<UUID> iterador = pendentes.iterator();
+            while (iterador.hasNext()) {
+                bloco.add(iterador.next());
+                if (bloco.size() == tamanhoLote || !iterador.hasNext()) {
+                    deletados += gravar(bloco);
+                    bloco.clear();
+                }
+            }
+            return deletados;
+        } finally {
+            descarga.unlock();
+        }
+    }
+
+    @PreDestroy
+    void descarregarAoEncerrar() {
+        int deletados = descarregar();
+        if (!pendentes.isEmpty()) {
+            log.error("{} deleções pendentes não puderam ser gravadas no desligamento", pendentes.size());
+        } else if (deletados > 0) {
+            log.info("{} deleções pendentes gravadas no desligamento", deletados);
+        }
+    }
+
+    // Os ids só saem da fila depois do commit; se o UPDATE falhar, continuam pendentes para a próxima passada
+    private int gravar(List<UUID> bloco) {
+        try {
+            int deletados = transactionTemplate.execute(transacao -> {
+                // Ids já deletados (por outra requisição ou passada) não geram um segundo DELETADO
+                List<CupomRepository.Situacao> travados = cupomRepository.travarNaoDeletados(bloco, Status.DELETED);
+                if (travados.isEmpty()) {
+                    return 0;
+                }
+                List<UUID> alvos = new ArrayList<>(travados.size());
+                for (CupomRepository.Situacao travado : travados) {
+                    alvos.add(travado.getId());
+                }
+                int alterados = cupomRepository.deletarEmLote(alvos, Status.DELETED);
+                eventoCupomRepository.registrarEmLote(alvos, TipoEventoCupom.DELETADO.name(),
+                                                      LocalDateTime.now(ZoneOffset.UTC));
+                // O código já vai no evento: a tabela de validação remove sem reler cada linha
+                for (CupomRepository.Situacao travado : travados) {
+                    eventos.publishEvent(new CupomAlteradoEvent(travado.getId(), travado.getCode()));
+                }
+                return alterados;
+            });
+            pendentes.removeAll(bloco);
+            return deletados;
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar bloco de {} deleções; nova tentativa na próxima passada", bloco.size(), e);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.cupom.CupomTeste.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cupom.CupomTeste.Exception.NegocioException;
+import com.cupom.CupomTeste.Exception.TabelaDeErros;
+import com.cupom.CupomTeste.Repository.CodigoReservadoRepository;
+import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.model.CodigoReservado;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+
+/*
+ * Gera códigos de 6 caracteres alfanuméricos sem consultar o banco a cada código.
+ * Os códigos já usados ficam num filtro de Bloom: um falso positivo só faz o gerador
+ * descartar um código livre, nunca entregar um repetido.
+ * O filtro é dimensionado pela quantidade de linhas na subida e recriado com o dobro do tamanho
+ * quando enche, para a taxa de falso positivo não subir a ponto de esgotar as tentativas.
+ * Ele só conhece os códigos desta réplica: quem grava um código gerado trata a violação do índice
+ * único gerando outro (TENTATIVAS_DE_GRAVACAO).
+ * Os códigos entregues em lote (emitir) são gravados em reserved_codes e recarregados em toda reconstrução,
+ * então seguem reservados depois de um reinício ou ampliação, até vencer cupom.codigos.validade-reserva.
+ */
+@Component
+public class GeradorDeCodigos {
+
+    private static final Logger log = LoggerFactory.getLogger(GeradorDeCodigos.class);
+
+    // Quantas vezes a gravação de um cupom com código gerado troca de código depois de esbarrar no índice único
+    public static final int TENTATIVAS_DE_GRAVACAO = 3;
+
+    private static final char[] ALFABETO =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final int TAMANHO_CODIGO = 6;
+    private static final long TOTAL_CODIGOS = 56_800_235_584L; // 62^6
+    private static final int MAXIMO_TENTATIVAS = 64;
+    private static final int FAIXAS = 64;
+
+    private final long capacidadeMinima;
+    private final double taxaFalsoPositivo;
+    private final ReentrantLock[] faixas = new ReentrantLock[FAIXAS];
+    private final AtomicBoolean reconstruindo = new AtomicBoolean();
+
+    private volatile Filtro filtro;
+
+    @Autowired
+    private CupomRepository cupomRepository;
+
+    @Autowired
+    private CodigoReservadoRepository codigoReservadoRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${cupom.codigos.validade-reserva:P30D}")
+    private Duration validadeReserva;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    public GeradorDeCodigos(@Value("${cupom.codigos.capacidade:1000000}") long capacidade,
+                            @Value("${cupom.codigos.taxa-falso-positivo:0.001}") double taxaFalsoPositivo) {
+        this.capacidadeMinima = capacidade;
+        this.taxaFalsoPositivo = taxaFalsoPositivo;
+        this.filtro = new Filtro(capacidade, taxaFalsoPositivo);
+        for (int i = 0; i < FAIXAS; i++) {
+            faixas[i] = new ReentrantLock();
+        }
+    }
+
+    // Folga de 2x sobre as linhas existentes para a próxima reconstrução não vir logo em seguida
+    @PostConstruct
+    void carregarCodigosExistentes() {
+        reconstruir(Math.max(capacidadeMinima, (cupomRepository.count() + codigoReservadoRepository.count()) * 2));
+    }
+
+    public String gerar() {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        for (int tentativa = 0; tentativa < MAXIMO_TENTATIVAS; tentativa++) {
+            long valor = aleatorio.nextLong(TOTAL_CODIGOS);
+            if (reservar(valor)) {
+                return paraTexto(valor);
+            }
+        }
+        throw new NegocioException(TabelaDeErros.CODIGOS_ESGOTADOS);
+    }
+
+    // Códigos para uma campanha usar depois: reservados no banco, não só no filtro desta réplica
+    public List<String> emitir(int quantidade) {
+        for (int tentativa = 1; ; tentativa++) {
+            List<String> codigos = gerar(quantidade);
+            try {
+                if (gravarReservas(codigos)) {
+                    return codigos;
+                }
+            } catch (DataIntegrityViolationException | PersistenceException e) {
+                // Outra réplica reservou um dos códigos ao mesmo tempo; o lote inteiro é trocado
+            }
+            if (tentativa == TENTATIVAS_DE_GRAVACAO) {
+                throw new NegocioException(TabelaDeErros.CODIGOS_ESGOTADOS);
+            }
+        }
+    }
+
+    List<String> gerar(int quantidade) {
+        List<String> codigos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            codigos.add(gerar());
+        }
+        return codigos;
+    }
+
+    // false quando um dos códigos já virou cupom em outra réplica (fora deste filtro)
+    private boolean gravarReservas(List<String> codigos) {
+        LocalDateTime agora = LocalDateTime.now(ZoneOffset.UTC);
+        return transactionTemplate.execute(transacao -> {
+            if (!cupomRepository.buscarCodigos(codigos).isEmpty()) {
+                return false;
+            }
+            for (String code : codigos) {
+                entityManager.persist(new CodigoReservado(code, agora));
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return true;
+        });
+    }
+
+    // Marca como ocupado um código criado por fora do gerador (ex.: informado pelo cliente)
+    public void registrar(String code) {
+        long valor = paraValor(code);
+        if (valor >= 0) {
+            reservar(valor);
+        }
+    }
+
+    public long quantidadeOcupados() {
+        return filtro.ocupados.sum();
+    }
+
+    public long capacidade() {
+        return filtro.capacidade;
+    }
+
+    // Checagem e marcação sob a trava da faixa do código: duas threads nunca reservam o mesmo valor
+    boolean reservar(long valor) {
+        Filtro atual = filtro;
+        long h1 = misturar(valor);
+        long h2 = misturar(h1) | 1;
+        ReentrantLock trava = faixas[(int) (h1 >>> 58) & (FAIXAS - 1)];
+        trava.lock();
+        try {
+            if (!atual.marcarSeAusente(h1, h2)) {
+                return false;
+            }
+        } finally {
+            trava.unlock();
+        }
+        if (atual.cheio()) {
+            ampliar(atual);
+        }
+        return true;
+    }
+
+    // A reconstrução lê todos os códigos do banco, então roda fora da thread da requisição (que pode ser um
+    // event loop no perfil reactive); enquanto isso as reservas seguem no filtro antigo. O que for reservado ali
+    // durante a carga e ainda não estiver no banco se perde na troca, e aí vale a nova tentativa de quem grava
+    private void ampliar(Filtro cheio) {
+        if (!reconstruindo.compareAndSet(false, true)) {
+            return;
+        }
+        CompletableFuture.runAsync(() -> {
+            try {
+                if (filtro == cheio) {
+                    reconstruir(cheio.capacidade * 2);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Falha ao ampliar o filtro de códigos; nova tentativa na próxima reserva", e);
+            } finally {
+                reconstruindo.set(false);
+            }
+        });
+    }
+
+    private void reconstruir(long capacidade) {
+        Filtro novo = new Filtro(capacidade, taxaFalsoPositivo);
+        transactionTemplate.executeWithoutResult(transacao -> {
+            codigoReservadoRepository.removerVencidas(LocalDateTime.now(ZoneOffset.UTC).minus(validadeReserva));
+            try (Stream<String> codigos = cupomRepository.streamCodigos()) {
+                codigos.forEach(code -> marcar(novo, code));
+            }
+            try (Stream<String> reservados = codigoReservadoRepository.streamCodigos()) {
+                reservados.forEach(code -> marcar(novo, code));
+            }
+        });
+        filtro = novo;
+    }
+
+    private static void marcar(Filtro filtro, String code) {
+        long valor = paraValor(code);
+        if (valor >= 0) {
+            long h1 = misturar(valor);
+            filtro.marcarSeAusente(h1, misturar(h1) | 1);
+        }
+    }
+
+    private static String paraTexto(long valor) {
+        char[] code = new char[TAMANHO_CODIGO];
+        for (int i = TAMANHO_CODIGO - 1; i >= 0; i--) {
+            code[i] = ALFABETO[(int) (valor % ALFABETO.length)];
+            valor /= ALFABETO.length;
+        }
+        return new String(code);
+    }
+
+    // -1 para textos que não são um código válido de 6 caracteres
+    public static long paraValor(String code) {
+        if (code == null || code.length() != TAMANHO_CODIGO) {
+            return -1;
+        }
+        long valor = 0;
+        for (int i = 0; i < TAMANHO_CODIGO; i++) {
+            int digito = digito(code.charAt(i));
+            if (digito < 0) {
+                return -1;
+            }
+            valor = valor * ALFABETO.length + digito;
+        }
+        return valor;
+    }
+
+    private static int digito(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 36;
+        }
+        return -1;
+    }
+
+    // Bits do filtro de Bloom para uma capacidade; trocado inteiro quando enche
+    private static final class Filtro {
+
+        private final AtomicLongArray bits;
+        private final long totalBits;
+        private final int funcoesHash;
+        private final long capacidade;
+        private final LongAdder ocupados = new LongAdder();
+
+        private Filtro(long capacidade, double taxaFalsoPositivo) {
+            long bitsNecessarios = (long) Math.ceil(-capacidade * Math.log(taxaFalsoPositivo) / (Math.log(2) * Math.log(2)));
+            this.capacidade = capacidade;
+            this.totalBits = Math.max(64, (bitsNecessarios + 63) & ~63L);
+            this.funcoesHash = Math.max(1, (int) Math.round((double) totalBits / capacidade * Math.log(2)));
+            this.bits = new AtomicLongArray(Math.toIntExact(totalBits >>> 6));
+        }
+
+        private boolean cheio() {
+            return ocupados.sum() > capacidade;
+        }
+
+        // Chamado sob a trava da faixa (ou por uma única thread na reconstrução)
+        private boolean marcarSeAusente(long h1, long h2) {
+            if (contem(h1, h2)) {
+                return false;
+            }
+            for (int i = 0; i < funcoesHash; i++) {
+                marcar(Math.floorMod(h1 + i * h2, totalBits));
+            }
+            ocupados.increment();
+            return true;
+        }
+
+        private boolean contem(long h1, long h2) {
+            for (int i = 0; i < funcoesHash; i++) {
+                long bit = Math.floorMod(h1 + i * h2, totalBits);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Palavras são compartilhadas entre faixas, então a marcação em si é por CAS
+        private void marcar(long bit) {
+            int indice = (int) (bit >>> 6);
+            long mascara = 1L << bit;
+            long atual = bits.get(indice);
+            while ((atual & mascara) == 0 && !bits.compareAndSet(indice, atual, atual | mascara)) {
+                atual = bits.get(indice);
+            }
+        }
+    }
+
+    // Finalizador do SplitMix64: espalha bem valores sequenciais
+    private static long misturar(long x) {
+        x = (x ^ (x >>> 30)) * 0xbf58476d1ce4e5b9L;
+        x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+        return x ^ (x >>> 31);
+    }
+}
@@ -0,0 +1,137 @@
+package com.cupom.CupomTeste.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cupom.CupomTeste.Repository.EventoCupomRepository;
+import com.cupom.CupomTeste.eventos.DestinoDeEventos;
+import com.cupom.CupomTeste.model.EventoCupom;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/*
+ * Esvazia a caixa de saída coupon_events: lê os eventos em ordem de id, entrega o lote ao DestinoDeEventos
+ * e só então apaga as linhas entregues. Como as linhas são apagadas em vez de seguir uma marca d'água,
+ * um id menor que só fica visível depois (transação mais lenta) é entregue na passada seguinte, sem se perder.
+ * Se o destino falhar ou a aplicação cair entre a entrega e o DELETE, o lote é reenviado: entrega pelo menos uma vez.
+ * Entre réplicas, cada lote sai numa transação que segura o lock da linha de outbox_relay; quem não consegue o lock
+ * pula a passada em vez de entregar os mesmos eventos. O ReentrantLock só evita passadas sobrepostas nesta JVM.
+ */
+@Component
+public class RetransmissorDeEventos implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(RetransmissorDeEventos.class);
+
+    @Autowired
+    private EventoCupomRepository eventoCupomRepository;
+
+    @Autowired
+    private DestinoDeEventos destino;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${cupom.outbox.tamanho-lote:500}")
+    private int tamanhoLote;
+
+    private final ReentrantLock execucao = new ReentrantLock();
+
+    private final LongAdder publicados = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+
+    // Só existe depois que o Actuator chama bindTo
+    private volatile Timer atraso;
+
+    @Scheduled(fixedDelayString = "${cupom.outbox.intervalo:PT1S}")
+    public void agendar() {
+        retransmitir();
+    }
+
+    // Devolve quantos eventos foram entregues; uma passada já em andamento não é repetida
+    public int retransmitir() {
+        if (!execucao.tryLock()) {
+            return 0;
+        }
+        try {
+            Pageable lote = PageRequest.ofSize(tamanhoLote);
+            int total = 0;
+            int entregues;
+            do {
+                entregues = transactionTemplate.execute(transacao -> entregarLote(lote));
+                total += entregues;
+            } while (entregues == tamanhoLote);
+            return total;
+        } finally {
+            execucao.unlock();
+        }
+    }
+
+    // Leitura, entrega e DELETE na mesma transação, com o lock de outbox_relay seguro até o commit
+    private int entregarLote(Pageable lote) {
+        if (eventoCupomRepository.travarRetransmissao().isEmpty()) {
+            return 0;
+        }
+        List<EventoCupom> eventos = eventoCupomRepository.buscarPendentes(lote);
+        if (eventos.isEmpty()) {
+            return 0;
+        }
+        try {
+            destino.publicar(eventos);
+        } catch (IOException | RuntimeException e) {
+            falhas.increment();
+            log.warn("Falha ao entregar {} eventos de cupom; nova tentativa na próxima passada", eventos.size(), e);
+            return 0;
+        }
+        removerEntregues(eventos);
+        return eventos.size();
+    }
+
+    private void removerEntregues(List<EventoCupom> eventos) {
+        List<Long> ids = new ArrayList<>(eventos.size());
+        for (EventoCupom evento : eventos) {
+            ids.add(evento.getId());
+        }
+        eventoCupomRepository.removerEntregues(ids);
+        publicados.add(eventos.size());
+
+        Timer timer = atraso;
+        if (timer != null) {
+            LocalDateTime agora = LocalDateTime.now(ZoneOffset.UTC);
+            for (EventoCupom evento : eventos) {
+                timer.record(Duration.between(evento.getOcorridoEm(), agora));
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cupom.outbox.eventos", publicados, LongAdder::sum)
+                       .description("Eventos de cupom entregues ao destino")
+                       .register(registry);
+        FunctionCounter.builder("cupom.outbox.falhas", falhas, LongAdder::sum)
+                       .description("Lotes que o destino recusou e ficaram para a próxima passada")
+                       .register(registry);
+        atraso = Timer.builder("cupom.outbox.atraso")
+                      .description("Tempo entre a alteração do cupom e a entrega do evento")
+                      .register(registry);
+    }
+}
@@ -0,0 +1,86 @@
+package com.cupom.CupomTeste.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import com.cupom.CupomTeste.Exception.NegocioException;
+import com.cupom.CupomTeste.Exception.TabelaDeErros;
+import com.cupom.CupomTeste.model.Cupom;
+
+/*
+ * Regras de entrada do cupom, usadas na criação unitária e no lote.
+ * Roda em volume no import em massa, então o caminho feliz não aloca nada:
+ * sem regex, constante para o desconto mínimo e data comparada em milissegundos.
+ */
+public final class ValidadorDeCupom {
+
+    public static final int TAMANHO_CODIGO = 6;
+
+    private static final BigDecimal DESCONTO_MINIMO = new BigDecimal("0.5");
+
+    private ValidadorDeCupom() {
+    }
+
+    public static void validar(Cupom cupom) {
+        cupom.setCode(normalizarCodigo(cupom.getCode()));
+
+        validarDesconto(cupom.getDiscountValue());
+        validarExpiracao(cupom.getExpirationDate());
+    }
+
+    public static void validarDesconto(BigDecimal discountValue) {
+        if (discountValue == null || discountValue.compareTo(DESCONTO_MINIMO) < 0) {
+            throw new NegocioException(TabelaDeErros.VALOR_DESCONTO_INVALIDO);
+        }
+    }
+
+    public static void validarExpiracao(LocalDateTime expirationDate) {
+        if (expirationDate == null || emMilissegundos(expirationDate) < System.currentTimeMillis()) {
+            throw new NegocioException(TabelaDeErros.DATA_EXPIRACAO_INVALIDA);
+        }
+    }
+
+    // Código sem separadores com exatamente 6 caracteres; devolve a mesma instância quando já vem limpo
+    public static String normalizarCodigo(String code) {
+        if (code == null) {
+            throw new NegocioException(TabelaDeErros.CODIGO_INVALIDO);
+        }
+        int validos = contarValidos(code);
+        if (validos != TAMANHO_CODIGO) {
+            throw new NegocioException(TabelaDeErros.CODIGO_INVALIDO);
+        }
+        return validos == code.length() ? code : copiarValidos(code, validos);
+    }
+
+    private static int contarValidos(String code) {
+        int validos = 0;
+        for (int i = 0; i < code.length(); i++) {
+            if (alfanumerico(code.charAt(i))) {
+                validos++;
+            }
+        }
+        return validos;
+    }
+
+    private static String copiarValidos(String code, int validos) {
+        char[] limpo = new char[validos];
+        int j = 0;
+        for (int i = 0; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (alfanumerico(c)) {
+                limpo[j++] = c;
+            }
+        }
+        return new String(limpo);
+    }
+
+    private static boolean alfanumerico(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    // Mesmo critério de antes (data lida como UTC), sem montar OffsetDateTime
+    private static long emMilissegundos(LocalDateTime data) {
+        return data.toEpochSecond(ZoneOffset.UTC) * 1000 + data.getNano() / 1_000_000;
+    }
+}
@@ -0,0 +1,17 @@
+package com.cupom.CupomTeste.cache;
+
+import java.util.UUID;
+
+import com.cupom.CupomTeste.model.dto.CupomResponse;
+
+// Segundo nível do CupomCache, visto por todas as réplicas (ex.: Redis, Hazelcast).
+// A implementação precisa expirar as entradas sozinha: o TTL dela limita quanto tempo uma resposta
+// antiga sobrevive se uma leitura concorrente regravar a linha logo antes de uma invalidação
+public interface CacheCompartilhado {
+
+    CupomResponse buscar(UUID id);
+
+    void armazenar(UUID id, CupomResponse response);
+
+    void remover(UUID id);
+}
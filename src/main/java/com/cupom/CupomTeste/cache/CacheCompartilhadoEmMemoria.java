@@ -0,0 +1,36 @@
+package com.cupom.CupomTeste.cache;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import com.cupom.CupomTeste.model.dto.CupomResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// Nível compartilhado dentro da própria JVM: para rodar uma réplica só ou simular várias nos testes
+public class CacheCompartilhadoEmMemoria implements CacheCompartilhado {
+
+    private final Cache<UUID, CupomResponse> respostas;
+
+    public CacheCompartilhadoEmMemoria(long tamanhoMaximo, Duration ttl) {
+        this.respostas = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public CupomResponse buscar(UUID id) {
+        return respostas.getIfPresent(id);
+    }
+
+    @Override
+    public void armazenar(UUID id, CupomResponse response) {
+        respostas.put(id, response);
+    }
+
+    @Override
+    public void remover(UUID id) {
+        respostas.invalidate(id);
+    }
+}
@@ -0,0 +1,12 @@
+package com.cupom.CupomTeste.cache;
+
+import java.util.function.Consumer;
+
+// Transporte das invalidações entre as réplicas (ex.: pub/sub do Redis, tópico Kafka, multicast).
+// Entrega pelo menos uma vez para cada assinante, inclusive para quem publicou
+public interface CanalDeInvalidacao {
+
+    void publicar(InvalidacaoDeCupom invalidacao);
+
+    void assinar(Consumer<InvalidacaoDeCupom> assinante);
+}
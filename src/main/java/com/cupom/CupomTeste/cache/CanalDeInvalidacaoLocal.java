@@ -0,0 +1,23 @@
+package com.cupom.CupomTeste.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Canal dentro da JVM: entrega na hora, na thread de quem publica, a todos os CupomCache assinantes
+public class CanalDeInvalidacaoLocal implements CanalDeInvalidacao {
+
+    private final List<Consumer<InvalidacaoDeCupom>> assinantes = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publicar(InvalidacaoDeCupom invalidacao) {
+        for (Consumer<InvalidacaoDeCupom> assinante : assinantes) {
+            assinante.accept(invalidacao);
+        }
+    }
+
+    @Override
+    public void assinar(Consumer<InvalidacaoDeCupom> assinante) {
+        assinantes.add(assinante);
+    }
+}
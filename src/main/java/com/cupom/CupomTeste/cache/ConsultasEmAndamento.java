@@ -0,0 +1,60 @@
+package com.cupom.CupomTeste.cache;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.cupom.CupomTeste.model.dto.CupomResponse;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+// Junta as faltas simultâneas do CupomCache para o mesmo cupom numa única ida ao banco: um cupom muito acessado
+// que sai do cache gera uma consulta, não uma por requisição
+@Component
+public class ConsultasEmAndamento implements MeterBinder {
+
+    private final VooUnico<UUID, CupomResponse> porId = new VooUnico<>();
+    private final VooUnico<String, CupomResponse> porCodigo = new VooUnico<>();
+
+    public CupomResponse porId(UUID id, Supplier<CupomResponse> busca) {
+        return porId.executar(id, busca);
+    }
+
+    // code já normalizado, para que "ABC-123" e "ABC123" caiam no mesmo voo
+    public CupomResponse porCodigo(String code, Supplier<CupomResponse> busca) {
+        return porCodigo.executar(code, busca);
+    }
+
+    // Chamadas que aproveitaram a busca de outra em vez de ir ao banco
+    public long coalescidas() {
+        return porId.coalescidas().sum() + porCodigo.coalescidas().sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registrar(registry, porId, "id");
+        registrar(registry, porCodigo, "codigo");
+    }
+
+    private static void registrar(MeterRegistry registry, VooUnico<?, ?> voo, String chave) {
+        FunctionCounter.builder("cupom.consultas", voo.buscas(), LongAdder::sum)
+                       .description("Faltas de cache por resultado: busca no banco ou coalescida com uma em andamento")
+                       .tag("chave", chave)
+                       .tag("resultado", "busca")
+                       .register(registry);
+        FunctionCounter.builder("cupom.consultas", voo.coalescidas(), LongAdder::sum)
+                       .description("Faltas de cache por resultado: busca no banco ou coalescida com uma em andamento")
+                       .tag("chave", chave)
+                       .tag("resultado", "coalescida")
+                       .register(registry);
+        Gauge.builder("cupom.consultas.em-andamento", voo, VooUnico::emAndamento)
+             .description("Buscas no banco em andamento que novas chamadas podem aproveitar")
+             .tag("chave", chave)
+             .register(registry);
+    }
+}
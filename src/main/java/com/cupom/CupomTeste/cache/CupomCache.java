@@ -0,0 +1,166 @@
+package com.cupom.CupomTeste.cache;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.cupom.CupomTeste.Service.CupomAlteradoEvent;
+import com.cupom.CupomTeste.model.dto.CupomResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Cache em dois níveis das respostas já mapeadas, consultado antes do repositório (cache-aside):
+// um near-cache local por réplica e o CacheCompartilhado entre elas. Toda alteração remove dos dois níveis e
+// avisa as outras réplicas pelo CanalDeInvalidacao. Se um aviso se perder, o TTL local limita a defasagem
+@Component
+public class CupomCache implements MeterBinder {
+
+    // Identifica esta réplica nas mensagens de invalidação
+    private final UUID replica = UUID.randomUUID();
+
+    private final Cache<UUID, CupomResponse> porId;
+
+    // O código não muda depois de criado, então o mapeamento código -> id nunca fica desatualizado
+    private final Cache<String, UUID> idPorCodigo;
+
+    private final CacheCompartilhado compartilhado;
+    private final CanalDeInvalidacao canal;
+
+    private final LongAdder acertosCompartilhado = new LongAdder();
+    private final LongAdder faltasCompartilhado = new LongAdder();
+    private final LongAdder invalidacoesPublicadas = new LongAdder();
+    private final LongAdder invalidacoesRecebidas = new LongAdder();
+
+    // Só existe depois que o Actuator chama bindTo
+    private volatile Timer atrasoInvalidacao;
+
+    public CupomCache(@Value("${cupom.cache.tamanho-maximo:10000}") long tamanhoMaximo,
+                      @Value("${cupom.cache.ttl-local:30s}") Duration ttlLocal,
+                      CacheCompartilhado compartilhado,
+                      CanalDeInvalidacao canal) {
+        this.porId = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttlLocal)
+                .recordStats()
+                .build();
+        this.idPorCodigo = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .build();
+        this.compartilhado = compartilhado;
+        this.canal = canal;
+        canal.assinar(this::aoReceberInvalidacao);
+    }
+
+    // Nível local primeiro; um acerto no compartilhado é copiado para o local
+    public CupomResponse buscar(UUID id) {
+        CupomResponse local = porId.getIfPresent(id);
+        if (local != null) {
+            return local;
+        }
+        CupomResponse response = compartilhado.buscar(id);
+        if (response == null) {
+            faltasCompartilhado.increment();
+            return null;
+        }
+        acertosCompartilhado.increment();
+        porId.put(id, response);
+        return response;
+    }
+
+    public void armazenar(UUID id, CupomResponse response) {
+        porId.put(id, response);
+        compartilhado.armazenar(id, response);
+    }
+
+    public UUID buscarIdPorCodigo(String code) {
+        return idPorCodigo.getIfPresent(code);
+    }
+
+    public void armazenarCodigo(String code, UUID id) {
+        idPorCodigo.put(code, id);
+    }
+
+    // Remove dos dois níveis e avisa as outras réplicas para limparem o nível local delas
+    public void remover(UUID id) {
+        porId.invalidate(id);
+        compartilhado.remover(id);
+        invalidacoesPublicadas.increment();
+        canal.publicar(new InvalidacaoDeCupom(replica, id, System.currentTimeMillis()));
+    }
+
+    // Acertos, faltas e remoções do nível local acumulados desde a subida da aplicação
+    public CacheStats estatisticas() {
+        return porId.stats();
+    }
+
+    // Fração das faltas do nível local que o compartilhado atendeu
+    public double taxaDeAcertoCompartilhado() {
+        long acertos = acertosCompartilhado.sum();
+        long total = acertos + faltasCompartilhado.sum();
+        return total == 0 ? 0.0 : (double) acertos / total;
+    }
+
+    // Chamado pelo Actuator na subida: publica acertos, faltas e tamanho do nível local em cache.*{cache=cupom.porId},
+    // mais a taxa de acerto de cada nível e o volume e o atraso das invalidações entre réplicas
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, porId, "cupom.porId");
+        Gauge.builder("cupom.cache.taxa-acerto", porId, cache -> cache.stats().hitRate())
+             .description("Fração das leituras atendidas pelo nível")
+             .tag("nivel", "local")
+             .register(registry);
+        Gauge.builder("cupom.cache.taxa-acerto", this, CupomCache::taxaDeAcertoCompartilhado)
+             .description("Fração das leituras atendidas pelo nível")
+             .tag("nivel", "compartilhado")
+             .register(registry);
+        FunctionCounter.builder("cupom.cache.compartilhado.leituras", acertosCompartilhado, LongAdder::sum)
+                       .tag("resultado", "acerto")
+                       .register(registry);
+        FunctionCounter.builder("cupom.cache.compartilhado.leituras", faltasCompartilhado, LongAdder::sum)
+                       .tag("resultado", "falta")
+                       .register(registry);
+        FunctionCounter.builder("cupom.cache.invalidacoes", invalidacoesPublicadas, LongAdder::sum)
+                       .description("Invalidações entre réplicas")
+                       .tag("sentido", "publicada")
+                       .register(registry);
+        FunctionCounter.builder("cupom.cache.invalidacoes", invalidacoesRecebidas, LongAdder::sum)
+                       .description("Invalidações entre réplicas")
+                       .tag("sentido", "recebida")
+                       .register(registry);
+        atrasoInvalidacao = Timer.builder("cupom.cache.invalidacoes.atraso")
+                                 .description("Tempo entre a publicação de uma invalidação e a chegada nesta réplica")
+                                 .register(registry);
+    }
+
+    // Só remove depois do commit, para que uma leitura concorrente não volte a guardar a linha antiga
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarCupom(CupomAlteradoEvent evento) {
+        remover(evento.getId());
+    }
+
+    // O nível compartilhado já foi limpo por quem publicou; aqui só sai a cópia local
+    void aoReceberInvalidacao(InvalidacaoDeCupom invalidacao) {
+        if (replica.equals(invalidacao.getOrigem())) {
+            return;
+        }
+        porId.invalidate(invalidacao.getId());
+        invalidacoesRecebidas.increment();
+        Timer atraso = atrasoInvalidacao;
+        if (atraso != null) {
+            atraso.record(Math.max(0, System.currentTimeMillis() - invalidacao.getPublicadaEm()), TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.cupom.CupomTeste.cache;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.Service.CupomAlteradoEvent;
+import com.cupom.CupomTeste.Service.GeradorDeCodigos;
+import com.cupom.CupomTeste.model.Cupom;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.dto.CupomResumo;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+// Cupons ACTIVE e não vencidos numa TabelaDeCupons fora do heap: valida um código sem JPA nem BigDecimal por cupom
+@Component
+public class CuponsValidos implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(CuponsValidos.class);
+
+    private final TabelaDeCupons tabela;
+
+    @Autowired
+    private CupomRepository cupomRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    public CuponsValidos(@Value("${cupom.validacao.capacidade-inicial:65536}") int capacidadeInicial) {
+        this.tabela = new TabelaDeCupons(capacidadeInicial);
+    }
+
+    // Desconto em centavos do cupom, ou TabelaDeCupons.INVALIDO; code já normalizado
+    public long descontoSeValido(String code) {
+        long chave = chave(code);
+        if (chave == TabelaDeCupons.INVALIDO) {
+            return TabelaDeCupons.INVALIDO;
+        }
+        return tabela.descontoSeValido(chave, LocalDateTime.now(ZoneOffset.UTC).toEpochSecond(ZoneOffset.UTC));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        int carregados = transactionTemplate.execute(transacao -> {
+            try (Stream<CupomResumo> validos = cupomRepository.streamValidos(Status.ACTIVE,
+                                                                             LocalDateTime.now(ZoneOffset.UTC))) {
+                int total = 0;
+                for (CupomResumo resumo : (Iterable<CupomResumo>) validos::iterator) {
+                    atualizar(resumo);
+                    total++;
+                }
+                return total;
+            }
+        });
+        log.info("{} cupons válidos carregados na tabela de validação ({} bytes fora do heap)",
+                 carregados, tabela.bytesReservados());
+    }
+
+    // Depois do commit. Deleção e expiração em lote já dizem qual código saiu; as alterações de uma linha
+    // relêem só as colunas do resumo, que já refletem a alteração que gerou o evento
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarCupom(CupomAlteradoEvent evento) {
+        if (evento.getCodigoInvalidado() != null) {
+            remover(evento.getCodigoInvalidado());
+            return;
+        }
+        cupomRepository.buscarResumo(evento.getId()).ifPresent(this::atualizar);
+    }
+
+    // Para a gravação em lote, que já tem as entidades em mãos e não publica evento por item
+    public void registrar(Cupom cupom) {
+        atualizar(new CupomResumo(cupom.getId(), cupom.getCode(), cupom.getDiscountValue(),
+                                  cupom.getExpirationDate(), cupom.getStatus(), cupom.isPublished(),
+                                  cupom.isRedeemed()));
+    }
+
+    // Tira o código da tabela sem consultar o banco; code já normalizado
+    public void remover(String code) {
+        long chave = chave(code);
+        if (chave != TabelaDeCupons.INVALIDO) {
+            tabela.remover(chave);
+        }
+    }
+
+    public int tamanho() {
+        return tabela.tamanho();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cupom.validacao.tamanho", tabela, TabelaDeCupons::tamanho)
+             .description("Cupons válidos na tabela fora do heap")
+             .register(registry);
+        Gauge.builder("cupom.validacao.bytes", tabela, TabelaDeCupons::bytesReservados)
+             .description("Memória direta reservada pela tabela de validação")
+             .baseUnit("bytes")
+             .register(registry);
+    }
+
+    private void atualizar(CupomResumo resumo) {
+        long chave = chave(resumo.getCode());
+        if (chave == TabelaDeCupons.INVALIDO) {
+            return;
+        }
+        if (resumo.getStatus() != Status.ACTIVE) {
+            tabela.remover(chave);
+            return;
+        }
+        int flags = (resumo.isRedeemed() ? TabelaDeCupons.RESGATADO : 0)
+                  | (resumo.isPublished() ? TabelaDeCupons.PUBLICADO : 0);
+        tabela.gravar(chave,
+                      emCentavos(resumo.getDiscountValue()),
+                      resumo.getExpirationDate().toEpochSecond(ZoneOffset.UTC),
+                      flags);
+    }
+
+    // O código de 6 caracteres vira um número em base 62; +1 porque a chave 0 marca slot vazio
+    private static long chave(String code) {
+        long valor = GeradorDeCodigos.paraValor(code);
+        return valor < 0 ? TabelaDeCupons.INVALIDO : valor + 1;
+    }
+
+    private static long emCentavos(BigDecimal valor) {
+        return valor.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,30 @@
+package com.cupom.CupomTeste.cache;
+
+import java.util.UUID;
+
+// Mensagem trocada entre as réplicas quando um cupom muda; a origem evita que a réplica trate a própria mensagem
+public class InvalidacaoDeCupom {
+
+    private final UUID origem;
+    private final UUID id;
+    private final long publicadaEm;
+
+    public InvalidacaoDeCupom(UUID origem, UUID id, long publicadaEm) {
+        this.origem = origem;
+        this.id = id;
+        this.publicadaEm = publicadaEm;
+    }
+
+    public UUID getOrigem() {
+        return origem;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    // Epoch em milissegundos, para medir o atraso de entrega entre as réplicas
+    public long getPublicadaEm() {
+        return publicadaEm;
+    }
+}
@@ -0,0 +1,195 @@
+package com.cupom.CupomTeste.cache;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.StampedLock;
+
+// Tabela hash de endereçamento aberto (sondagem linear) fora do heap, com chave long e valores primitivos.
+// Cada slot ocupa 24 bytes: chave, desconto em centavos e (expiração em segundos << 8 | flags).
+// Leituras usam leitura otimista do StampedLock e não bloqueiam; escritas e o crescimento usam a trava de escrita.
+public final class TabelaDeCupons {
+
+    public static final long INVALIDO = -1;
+
+    public static final int RESGATADO = 1;
+    public static final int PUBLICADO = 1 << 1;
+
+    private static final long VAZIO = 0;
+    private static final int BYTES_POR_SLOT = 24;
+    private static final int CAPACIDADE_MAXIMA = 1 << 26; // 1,5 GB: o ByteBuffer é indexado por int
+
+    private final StampedLock trava = new StampedLock();
+    private ByteBuffer slots;
+    private int ocupados;
+
+    public TabelaDeCupons(int capacidadeInicial) {
+        int capacidade = 16;
+        while (capacidade < capacidadeInicial && capacidade < CAPACIDADE_MAXIMA) {
+            capacidade <<= 1;
+        }
+        this.slots = alocar(capacidade);
+    }
+
+    // Desconto em centavos se a chave existe, não foi resgatada e expira depois de agora; senão INVALIDO
+    public long descontoSeValido(long chave, long agoraEmSegundos) {
+        long carimbo = trava.tryOptimisticRead();
+        long desconto = consultar(slots, chave, agoraEmSegundos);
+        if (!trava.validate(carimbo)) {
+            carimbo = trava.readLock();
+            try {
+                desconto = consultar(slots, chave, agoraEmSegundos);
+            } finally {
+                trava.unlockRead(carimbo);
+            }
+        }
+        return desconto;
+    }
+
+    public void gravar(long chave, long centavos, long expiracaoEmSegundos, int flags) {
+        if (chave == VAZIO) {
+            throw new IllegalArgumentException("chave 0 é reservada para slot vazio");
+        }
+        long carimbo = trava.writeLock();
+        try {
+            if ((ocupados + 1) * 2L > capacidade(slots)) {
+                crescer();
+            }
+            int base = localizar(slots, chave);
+            if (slots.getLong(base) == VAZIO) {
+                ocupados++;
+            }
+            escrever(slots, base, chave, centavos, (expiracaoEmSegundos << 8) | (flags & 0xFF));
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    // Remoção com deslocamento para trás: puxa os vizinhos da sequência em vez de deixar lápides
+    public boolean remover(long chave) {
+        long carimbo = trava.writeLock();
+        try {
+            int mascara = capacidade(slots) - 1;
+            int vago = localizar(slots, chave) / BYTES_POR_SLOT;
+            if (slots.getLong(vago * BYTES_POR_SLOT) == VAZIO) {
+                return false;
+            }
+            int j = vago;
+            while (true) {
+                j = (j + 1) & mascara;
+                long atual = slots.getLong(j * BYTES_POR_SLOT);
+                if (atual == VAZIO) {
+                    break;
+                }
+                int ideal = indice(atual, mascara);
+                // O item em j só pode ocupar o buraco se a posição ideal dele não estiver entre o buraco e j
+                boolean ficaNoLugar = vago <= j ? vago < ideal && ideal <= j : vago < ideal || ideal <= j;
+                if (!ficaNoLugar) {
+                    copiar(slots, j * BYTES_POR_SLOT, vago * BYTES_POR_SLOT);
+                    vago = j;
+                }
+            }
+            escrever(slots, vago * BYTES_POR_SLOT, VAZIO, 0, 0);
+            ocupados--;
+            return true;
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    public int tamanho() {
+        long carimbo = trava.readLock();
+        try {
+            return ocupados;
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+    public long bytesReservados() {
+        long carimbo = trava.readLock();
+        try {
+            return slots.capacity();
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+    // Sem trava: numa leitura otimista os valores podem estar rasgados, e o validate() descarta o resultado.
+    // O laço é limitado para terminar mesmo que uma escrita concorrente deixe a tabela momentaneamente cheia.
+    private static long consultar(ByteBuffer slots, long chave, long agoraEmSegundos) {
+        int mascara = capacidade(slots) - 1;
+        int i = indice(chave, mascara);
+        for (int passos = 0; passos <= mascara; passos++) {
+            int base = i * BYTES_POR_SLOT;
+            long atual = slots.getLong(base);
+            if (atual == VAZIO) {
+                return INVALIDO;
+            }
+            if (atual == chave) {
+                long expiracaoEFlags = slots.getLong(base + 16);
+                boolean valido = (expiracaoEFlags & RESGATADO) == 0 && (expiracaoEFlags >> 8) > agoraEmSegundos;
+                return valido ? slots.getLong(base + 8) : INVALIDO;
+            }
+            i = (i + 1) & mascara;
+        }
+        return INVALIDO;
+    }
+
+    // Offset do slot com a chave ou do primeiro vazio da sequência
+    private static int localizar(ByteBuffer slots, long chave) {
+        int mascara = capacidade(slots) - 1;
+        int i = indice(chave, mascara);
+        while (true) {
+            int base = i * BYTES_POR_SLOT;
+            long atual = slots.getLong(base);
+            if (atual == VAZIO || atual == chave) {
+                return base;
+            }
+            i = (i + 1) & mascara;
+        }
+    }
+
+    private void crescer() {
+        int capacidade = capacidade(slots);
+        if (capacidade >= CAPACIDADE_MAXIMA) {
+            throw new IllegalStateException("TabelaDeCupons atingiu a capacidade máxima de " + CAPACIDADE_MAXIMA);
+        }
+        ByteBuffer novos = alocar(capacidade << 1);
+        for (int base = 0; base < slots.capacity(); base += BYTES_POR_SLOT) {
+            long chave = slots.getLong(base);
+            if (chave != VAZIO) {
+                copiar(slots, base, novos, localizar(novos, chave));
+            }
+        }
+        // O buffer antigo é liberado pelo GC junto com o objeto ByteBuffer
+        slots = novos;
+    }
+
+    private static ByteBuffer alocar(int capacidade) {
+        return ByteBuffer.allocateDirect(capacidade * BYTES_POR_SLOT);
+    }
+
+    private static int capacidade(ByteBuffer slots) {
+        return slots.capacity() / BYTES_POR_SLOT;
+    }
+
+    private static int indice(long chave, int mascara) {
+        long x = chave;
+        x = (x ^ (x >>> 30)) * 0xbf58476d1ce4e5b9L;
+        x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+        return (int) ((x ^ (x >>> 31)) & mascara);
+    }
+
+    private static void escrever(ByteBuffer slots, int base, long chave, long centavos, long expiracaoEFlags) {
+        slots.putLong(base, chave);
+        slots.putLong(base + 8, centavos);
+        slots.putLong(base + 16, expiracaoEFlags);
+    }
+
+    private static void copiar(ByteBuffer slots, int origem, int destino) {
+        copiar(slots, origem, slots, destino);
+    }
+
+    private static void copiar(ByteBuffer de, int origem, ByteBuffer para, int destino) {
+        escrever(para, destino, de.getLong(origem), de.getLong(origem + 8), de.getLong(origem + 16));
+    }
+}
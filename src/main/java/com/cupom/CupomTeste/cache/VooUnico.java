@@ -0,0 +1,66 @@
+package com.cupom.CupomTeste.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Single-flight: chamadas simultâneas com a mesma chave esperam a busca da primeira em vez de repetir a consulta.
+// A entrada só vive enquanto a busca está em andamento; quem chega depois do fim dispara uma busca nova
+final class VooUnico<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> emAndamento = new ConcurrentHashMap<>();
+
+    private final LongAdder buscas = new LongAdder();
+    private final LongAdder coalescidas = new LongAdder();
+
+    V executar(K chave, Supplier<V> busca) {
+        CompletableFuture<V> voo = new CompletableFuture<>();
+        CompletableFuture<V> existente = emAndamento.putIfAbsent(chave, voo);
+        if (existente != null) {
+            coalescidas.increment();
+            return aguardar(existente);
+        }
+
+        buscas.increment();
+        try {
+            V valor = busca.get();
+            voo.complete(valor);
+            return valor;
+        } catch (RuntimeException | Error e) {
+            voo.completeExceptionally(e);
+            throw e;
+        } finally {
+            // remove(chave, voo) não derruba um voo mais novo com a mesma chave
+            emAndamento.remove(chave, voo);
+        }
+    }
+
+    // Quem espera recebe a mesma exceção da busca (ex.: NegocioException de cupom inexistente), sem o CompletionException
+    private V aguardar(CompletableFuture<V> voo) {
+        try {
+            return voo.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    int emAndamento() {
+        return emAndamento.size();
+    }
+
+    LongAdder buscas() {
+        return buscas;
+    }
+
+    LongAdder coalescidas() {
+        return coalescidas;
+    }
+}
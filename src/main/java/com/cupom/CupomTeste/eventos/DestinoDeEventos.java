@@ -0,0 +1,14 @@
+package com.cupom.CupomTeste.eventos;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.cupom.CupomTeste.model.EventoCupom;
+
+// Para onde o RetransmissorDeEventos entrega a caixa de saída (arquivo, fila, tópico...).
+// Recebe os lotes em ordem; só retornar depois que o lote estiver durável, porque em seguida as linhas são apagadas.
+// A entrega é pelo menos uma vez: depois de uma falha o mesmo lote pode chegar de novo, com os mesmos ids
+public interface DestinoDeEventos {
+
+    void publicar(List<EventoCupom> lote) throws IOException;
+}
@@ -0,0 +1,54 @@
+package com.cupom.CupomTeste.eventos;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.cupom.CupomTeste.model.EventoCupom;
+
+// Guarda na própria JVM os últimos eventos entregues, para os testes. Não é um consumidor: passada a capacidade,
+// os mais antigos são descartados, então o perfil de produção deve usar o arquivo ou um broker
+public class DestinoDeEventosEmMemoria implements DestinoDeEventos {
+
+    private final int capacidade;
+    private final ArrayDeque<EventoCupom> entregues;
+    private final ReentrantLock acesso = new ReentrantLock();
+
+    public DestinoDeEventosEmMemoria(int capacidade) {
+        this.capacidade = capacidade;
+        this.entregues = new ArrayDeque<>(Math.min(capacidade, 1024));
+    }
+
+    @Override
+    public void publicar(List<EventoCupom> lote) {
+        acesso.lock();
+        try {
+            for (EventoCupom evento : lote) {
+                if (entregues.size() == capacidade) {
+                    entregues.removeFirst();
+                }
+                entregues.addLast(evento);
+            }
+        } finally {
+            acesso.unlock();
+        }
+    }
+
+    public List<EventoCupom> entregues() {
+        acesso.lock();
+        try {
+            return List.copyOf(entregues);
+        } finally {
+            acesso.unlock();
+        }
+    }
+
+    public void limpar() {
+        acesso.lock();
+        try {
+            entregues.clear();
+        } finally {
+            acesso.unlock();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.cupom.CupomTeste.eventos;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.cupom.CupomTeste.model.EventoCupom;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// Acrescenta uma linha JSON por evento num arquivo; os consumidores acompanham com tail -f ou lendo a partir
+// do último id que já processaram. Cada lote vai para o disco (force) antes de o retransmissor apagar as linhas
+public class DestinoDeEventosNdjson implements DestinoDeEventos {
+
+    private final Path arquivo;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter escritor;
+
+    // ReentrantLock em vez de synchronized: no perfil virtual o retransmissor roda em thread virtual, e o force
+    // dentro de um monitor prenderia a thread portadora durante todo o fsync
+    private final ReentrantLock escrita = new ReentrantLock();
+
+    public DestinoDeEventosNdjson(Path arquivo, ObjectMapper objectMapper) {
+        this.arquivo = arquivo;
+        this.objectMapper = objectMapper;
+        this.escritor = objectMapper.writerFor(EventoCupom.class)
+                                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void publicar(List<EventoCupom> lote) throws IOException {
+        escrita.lock();
+        try {
+            Path pasta = arquivo.toAbsolutePath().getParent();
+            if (pasta != null) {
+                Files.createDirectories(pasta);
+            }
+            try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                      StandardOpenOption.APPEND)) {
+                OutputStream saida = Channels.newOutputStream(canal);
+                try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+                    gerador.setRootValueSeparator(null);
+                    for (EventoCupom evento : lote) {
+                        escritor.writeValue(gerador, evento);
+                        gerador.writeRaw('\n');
+                    }
+                    gerador.flush();
+                    canal.force(false);
+                }
+            }
+        } finally {
+            escrita.unlock();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.cupom.CupomTeste.limite;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.cupom.CupomTeste.Exception.CorposDeErro;
+import com.cupom.CupomTeste.Exception.TabelaDeErros;
+import com.cupom.CupomTeste.metricas.CupomMetricas;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Controle de admissão das rotas /coupon: limite de taxa por cliente (429) e, nas rotas que chegam ao banco,
+// limite adaptativo de concorrência (503). Recusa antes de ocupar conexão do pool
+public class FiltroDeAdmissao extends OncePerRequestFilter {
+
+    public static final String CABECALHO_CHAVE = "X-API-Key";
+
+    private final LimitadorDeTaxa limitador;
+    private final LimiteDeConcorrencia concorrencia;
+    private final CupomMetricas metricas;
+    private final LongSupplier relogio;
+
+    // Só estas chaves ganham limite próprio; o cabeçalho não é autenticado, então qualquer outro valor
+    // cai no limite do IP, senão bastaria trocar de chave a cada requisição para ter um balde novo
+    private final Set<String> chavesConhecidas;
+
+    public FiltroDeAdmissao(LimitadorDeTaxa limitador, LimiteDeConcorrencia concorrencia,
+                            CupomMetricas metricas, LongSupplier relogio, Set<String> chavesConhecidas) {
+        this.limitador = limitador;
+        this.concorrencia = concorrencia;
+        this.metricas = metricas;
+        this.relogio = relogio;
+        this.chavesConhecidas = Set.copyOf(chavesConhecidas);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long inicio = relogio.getAsLong();
+        long espera = limitador.tentar(cliente(request), inicio);
+        if (espera > 0) {
+            recusar(response, TabelaDeErros.LIMITE_DE_REQUISICOES, espera);
+            return;
+        }
+        if (!usaBanco(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!concorrencia.adquirir()) {
+            recusar(response, TabelaDeErros.SERVICO_SOBRECARREGADO, TimeUnit.SECONDS.toNanos(1));
+            return;
+        }
+        boolean liberarAgora = true;
+        boolean falhou = true;
+        try {
+            chain.doFilter(request, response);
+            falhou = response.getStatus() >= 500;
+            if (request.isAsyncStarted()) {
+                // O streaming continua depois que a cadeia retorna; a vaga só volta quando a resposta termina
+                request.getAsyncContext().addListener(new LiberarAoTerminar());
+                liberarAgora = false;
+            }
+        } finally {
+            if (liberarAgora) {
+                concorrencia.liberar(relogio.getAsLong() - inicio, falhou);
+            }
+        }
+    }
+
+    // Uma chave de API cadastrada identifica o parceiro; sem ela, ou com uma chave desconhecida, vale o endereço de
+    // origem (atrás de proxy, server.forward-headers-strategy faz o getRemoteAddr devolver o cliente real)
+    private String cliente(HttpServletRequest request) {
+        String chave = request.getHeader(CABECALHO_CHAVE);
+        return chave != null && chavesConhecidas.contains(chave) ? "chave:" + chave : "ip:" + request.getRemoteAddr();
+    }
+
+    // A validação por código é respondida pela tabela fora do heap, sem passar pelo repositório
+    private static boolean usaBanco(HttpServletRequest request) {
+        return !request.getRequestURI().endsWith("/validation");
+    }
+
+    private void recusar(HttpServletResponse response, TabelaDeErros erro, long esperaNanos) throws IOException {
+        metricas.registrarErro(erro);
+        long segundos = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(esperaNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(erro.getCodigoHttp().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(segundos));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        CorposDeErro.Corpo corpo = CorposDeErro.de(erro);
+        response.setContentLengthLong(corpo.contentLength());
+        corpo.escreverEm(response.getOutputStream());
+    }
+
+    private class LiberarAoTerminar implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            concorrencia.liberarSemAmostra();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
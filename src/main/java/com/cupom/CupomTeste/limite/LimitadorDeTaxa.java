@@ -0,0 +1,62 @@
+package com.cupom.CupomTeste.limite;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+// Balde de fichas por cliente no formato GCRA: cada cliente guarda só o instante teórico da próxima chegada
+// num AtomicLong atualizado por CAS, sem trava e sem thread de reabastecimento
+public class LimitadorDeTaxa implements MeterBinder {
+
+    private final long intervaloNanos;
+    private final long toleranciaNanos;
+
+    // Clientes ociosos saem sozinhos; o limite de tamanho protege contra uma enxurrada de chaves distintas
+    private final Cache<String, AtomicLong> chegadas;
+
+    public LimitadorDeTaxa(double taxaPorSegundo, int rajada, long maximoDeClientes) {
+        if (taxaPorSegundo <= 0 || rajada < 1) {
+            throw new IllegalArgumentException("A taxa deve ser positiva e a rajada no mínimo 1");
+        }
+        this.intervaloNanos = Math.max(1, (long) (1_000_000_000L / taxaPorSegundo));
+        this.toleranciaNanos = intervaloNanos * (rajada - 1);
+        // Depois de intervalo * rajada sem requisições o balde está cheio de novo e a entrada pode sumir
+        this.chegadas = Caffeine.newBuilder()
+                .maximumSize(maximoDeClientes)
+                .expireAfterAccess(Duration.ofNanos(intervaloNanos + toleranciaNanos).plusSeconds(1))
+                .build();
+    }
+
+    // 0 quando a requisição passa; senão, quantos nanos o cliente deve esperar
+    public long tentar(String cliente, long agoraNanos) {
+        AtomicLong chegada = chegadas.get(cliente, c -> new AtomicLong(agoraNanos));
+        while (true) {
+            long teorica = chegada.get();
+            long base = Math.max(teorica, agoraNanos);
+            long espera = base - toleranciaNanos - agoraNanos;
+            if (espera > 0) {
+                return espera;
+            }
+            if (chegada.compareAndSet(teorica, base + intervaloNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    public long clientes() {
+        return chegadas.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cupom.admissao.clientes", this, LimitadorDeTaxa::clientes)
+             .description("Clientes acompanhados pelo limitador de taxa")
+             .register(registry);
+    }
+}
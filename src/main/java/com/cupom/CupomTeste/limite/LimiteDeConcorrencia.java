@@ -0,0 +1,77 @@
+package com.cupom.CupomTeste.limite;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+// Limite adaptativo de requisições simultâneas (AIMD): cresce de 1 em 1 enquanto as respostas saem
+// dentro da latência alvo e encolhe 10% quando uma resposta demora demais ou falha
+public class LimiteDeConcorrencia implements MeterBinder {
+
+    private static final double FATOR_DE_REDUCAO = 0.9;
+
+    private final int minimo;
+    private final int maximo;
+    private final long latenciaAlvoNanos;
+
+    private final AtomicInteger limite;
+    private final AtomicInteger emUso = new AtomicInteger();
+
+    public LimiteDeConcorrencia(int inicial, int minimo, int maximo, long latenciaAlvoNanos) {
+        if (minimo < 1 || minimo > maximo || inicial < minimo || inicial > maximo) {
+            throw new IllegalArgumentException("O limite inicial deve estar entre o mínimo e o máximo");
+        }
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.latenciaAlvoNanos = latenciaAlvoNanos;
+        this.limite = new AtomicInteger(inicial);
+    }
+
+    public boolean adquirir() {
+        while (true) {
+            int atual = emUso.get();
+            if (atual >= limite.get()) {
+                return false;
+            }
+            if (emUso.compareAndSet(atual, atual + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // Libera a vaga e usa a requisição como amostra para ajustar o limite
+    public void liberar(long latenciaNanos, boolean falhou) {
+        int simultaneas = emUso.getAndDecrement();
+        if (falhou || latenciaNanos > latenciaAlvoNanos) {
+            limite.updateAndGet(l -> Math.max(minimo, (int) (l * FATOR_DE_REDUCAO)));
+        } else if (simultaneas * 2 >= limite.get()) {
+            // Só cresce quando o limite atual está de fato sendo usado
+            limite.updateAndGet(l -> Math.min(maximo, l + 1));
+        }
+    }
+
+    // Para requisições cuja duração não diz nada sobre a saúde do banco (ex.: streaming longo)
+    public void liberarSemAmostra() {
+        emUso.decrementAndGet();
+    }
+
+    public int getLimite() {
+        return limite.get();
+    }
+
+    public int getEmUso() {
+        return emUso.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cupom.admissao.limite", limite, AtomicInteger::get)
+             .description("Limite atual de requisições simultâneas nas rotas que usam o banco")
+             .register(registry);
+        Gauge.builder("cupom.admissao.em-uso", emUso, AtomicInteger::get)
+             .description("Requisições simultâneas em andamento nas rotas que usam o banco")
+             .register(registry);
+    }
+}
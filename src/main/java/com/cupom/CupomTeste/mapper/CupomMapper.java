@@ -1,15 +1,14 @@
 package com.cupom.CupomTeste.mapper;
 
-import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
-
 import org.mapstruct.Mapper;
 
 import com.cupom.CupomTeste.model.Cupom;
-import com.cupom.CupomTeste.model.Status.Status;
 import com.cupom.CupomTeste.model.dto.CupomRequest;
 import com.cupom.CupomTeste.model.dto.CupomResponse;
+import com.cupom.CupomTeste.model.dto.CupomResumo;
 
+// Mapeamento gerado em tempo de compilação: só getters e setters, sem reflexão nem conversão de tipo,
+// já que entidade e DTOs usam os mesmos tipos (UUID, LocalDateTime, Status)
 @Mapper(componentModel = "spring")
 public interface CupomMapper {
 
@@ -17,25 +16,6 @@ public interface CupomMapper {
 
     Cupom toEntity(CupomRequest cupomRequest);
 
-    // Converter OffsetDateTime -> LocalDateTime
-    default LocalDateTime map(OffsetDateTime value) {
-        if (value == null) return null;
-        return value.toLocalDateTime();
-    }
-
-    // Converter LocalDateTime -> OffsetDateTime se precisar do inverso
-    default OffsetDateTime map(LocalDateTime value) {
-        if (value == null) return null;
-        return value.atOffset(java.time.ZoneOffset.UTC);
-    }
-
-    default String map(Status status) {
-        if (status == null) return null;
-        return status.name();
-    }
-
-    default Status map(String status) {
-        if (status == null) return null;
-        return Status.valueOf(status);
-    }
-}
\ No newline at end of file
+    // Aproveita uma resposta completa já em cache para servir o resumo
+    CupomResumo toResumo(CupomResponse cupomResponse);
+}
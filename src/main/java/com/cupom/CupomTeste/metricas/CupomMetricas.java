@@ -0,0 +1,32 @@
+package com.cupom.CupomTeste.metricas;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.cupom.CupomTeste.Exception.TabelaDeErros;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Um contador por código da TabelaDeErros, registrado na subida para que o incremento não procure o medidor
+@Component
+public class CupomMetricas {
+
+    private final Map<TabelaDeErros, Counter> erros = new EnumMap<>(TabelaDeErros.class);
+
+    public CupomMetricas(MeterRegistry registry) {
+        for (TabelaDeErros erro : TabelaDeErros.values()) {
+            erros.put(erro, Counter.builder("cupom.erros")
+                    .description("Erros de negócio devolvidos, por código da TabelaDeErros")
+                    .tag("codigo", erro.getCodigoDeErro())
+                    .tag("erro", erro.name())
+                    .register(registry));
+        }
+    }
+
+    public void registrarErro(TabelaDeErros erro) {
+        erros.get(erro).increment();
+    }
+}
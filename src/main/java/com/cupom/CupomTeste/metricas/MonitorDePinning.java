@@ -0,0 +1,73 @@
+package com.cupom.CupomTeste.metricas;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/*
+ * No modo de threads virtuais, uma thread que bloqueia dentro de um synchronized prende a thread
+ * portadora. O código do projeto usa ReentrantLock nesses pontos; este monitor acompanha o evento
+ * jdk.VirtualThreadPinned do JFR para que um driver ou biblioteca que prenda a portadora apareça
+ * na métrica jvm.threads.virtual.pinned e no log, com o frame de origem.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class MonitorDePinning {
+
+    private static final Logger log = LoggerFactory.getLogger(MonitorDePinning.class);
+
+    private static final Duration LIMIAR = Duration.ofMillis(20);
+
+    private final Counter pinados;
+    private RecordingStream gravacao;
+
+    public MonitorDePinning(MeterRegistry registry) {
+        this.pinados = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Vezes em que uma thread virtual ficou presa à portadora além do limiar")
+                .register(registry);
+    }
+
+    @PostConstruct
+    void iniciar() {
+        gravacao = new RecordingStream();
+        gravacao.enable("jdk.VirtualThreadPinned").withThreshold(LIMIAR).withStackTrace();
+        gravacao.onEvent("jdk.VirtualThreadPinned", this::registrar);
+        gravacao.startAsync();
+    }
+
+    @PreDestroy
+    void encerrar() {
+        gravacao.close();
+    }
+
+    private void registrar(RecordedEvent evento) {
+        pinados.increment();
+        if (log.isWarnEnabled()) {
+            log.warn("Thread virtual presa por {} ms em {}", evento.getDuration().toMillis(), origem(evento));
+        }
+    }
+
+    private static String origem(RecordedEvent evento) {
+        if (evento.getStackTrace() == null) {
+            return "?";
+        }
+        for (RecordedFrame frame : evento.getStackTrace().getFrames()) {
+            if (frame.isJavaFrame()) {
+                return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                     + ":" + frame.getLineNumber();
+            }
+        }
+        return "?";
+    }
+}
@@ -0,0 +1,32 @@
+package com.cupom.CupomTeste.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Código entregue em lote (POST /coupon/codes) e reservado para uma campanha até vencer. A chave primária
+// também impede que duas réplicas reservem o mesmo código
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "reserved_codes")
+public class CodigoReservado {
+
+    @Id
+    @Column(length = 6)
+    private String code;
+
+    @Column(nullable = false)
+    private LocalDateTime reservadoEm;
+
+    public CodigoReservado(String code, LocalDateTime reservadoEm) {
+        this.code = code;
+        this.reservadoEm = reservadoEm;
+    }
+}
@@ -6,33 +6,47 @@ import java.util.UUID;
 
 import com.cupom.CupomTeste.model.Status.Status;
 
+import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.DynamicUpdate;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "coupons")
+@DynamicUpdate // UPDATE só com as colunas alteradas: a description (TEXT) não é reenviada à toa
+// Esquema e índices vêm das migrações do Flyway (db/migration); aqui ficam só para documentar o mapeamento
+@Table(name = "coupons", indexes = {
+        @Index(name = "ux_coupons_code", columnList = "code", unique = true),
+        @Index(name = "ix_coupons_status_expiration", columnList = "status, expirationDate, id"),
+        @Index(name = "ix_coupons_published_expiration", columnList = "published, expirationDate, id")
+})
 public class Cupom {
 
+    // Tipo UUID nativo (16 bytes) e ids ordenados pelo tempo de criação
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
-    @Column(name = "id", columnDefinition = "VARCHAR(36)")
+    @UuidV7
+    @Column(name = "id")
     private UUID id;
 
     @Column(nullable = false, length = 6)
     private String code;
 
+    // Só é lida quando acessada; listagens e resgates não precisam dela
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String description;
 
@@ -42,7 +56,9 @@ public class Cupom {
     @Column(nullable = false)
     private LocalDateTime expirationDate;
 
-    @Column(nullable = false)
+    // Gravado como texto para que o índice (status, expirationDate) não dependa da ordem do enum
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
     private Status status;
 
     @Column(nullable = false)
@@ -51,6 +67,12 @@ public class Cupom {
     @Column(nullable = false)
     private boolean redeemed;
 
+    // Trava otimista do PATCH; os UPDATEs em massa do repositório incrementam a versão à mão
+    @Version
+    @Column(nullable = false)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long version;
 
     public Cupom() {
     }
@@ -116,7 +138,6 @@ public class Cupom {
     }
 
 	public void setId(UUID cupomId) {
-		// TODO Auto-generated method stub
-		
+		this.id = cupomId;
 	}
 }
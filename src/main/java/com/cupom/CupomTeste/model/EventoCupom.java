@@ -0,0 +1,45 @@
+package com.cupom.CupomTeste.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Linha da caixa de saída (outbox): gravada na mesma transação que altera o cupom e apagada pelo
+// RetransmissorDeEventos depois de entregue. O id crescente dá a ordem de entrega e serve de chave de deduplicação
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "coupon_events")
+public class EventoCupom {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private UUID cupomId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private TipoEventoCupom tipo;
+
+    @Column(nullable = false)
+    private LocalDateTime ocorridoEm;
+
+    public EventoCupom(UUID cupomId, TipoEventoCupom tipo, LocalDateTime ocorridoEm) {
+        this.cupomId = cupomId;
+        this.tipo = tipo;
+        this.ocorridoEm = ocorridoEm;
+    }
+}
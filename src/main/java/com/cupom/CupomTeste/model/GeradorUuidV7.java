@@ -0,0 +1,44 @@
+package com.cupom.CupomTeste.model;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+// UUID versão 7 (RFC 9562): 48 bits de milissegundos, 12 bits de sequência e 62 bits aleatórios.
+// Ids gerados em sequência crescem junto com o tempo, então a inserção vai para o fim do índice da chave primária.
+public class GeradorUuidV7 implements BeforeExecutionGenerator {
+
+    private static final SecureRandom ALEATORIO = new SecureRandom();
+
+    // (milissegundos << 12 | sequência) do último id: garante ordem estrita mesmo com vários ids no mesmo ms
+    private static final AtomicLong ULTIMO = new AtomicLong();
+
+    public static UUID gerar() {
+        long agora = System.currentTimeMillis() << 12;
+        // Esgotada a sequência do milissegundo, avança para o próximo em vez de esperar o relógio
+        long marca = ULTIMO.accumulateAndGet(agora, (ultimo, atual) -> Math.max(ultimo + 1, atual));
+
+        long maisSignificativos = (marca >>> 12) << 16   // unix_ts_ms
+                                | 0x7000L                // versão 7
+                                | (marca & 0xFFFL);      // rand_a: sequência
+        long menosSignificativos = (ALEATORIO.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L; // variante 10
+        return new UUID(maisSignificativos, menosSignificativos);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return gerar();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -2,5 +2,6 @@ package com.cupom.CupomTeste.model.Status;
 
 public enum Status {
 	ACTIVE,
-    DELETED
+    DELETED,
+    EXPIRED
 }
\ No newline at end of file
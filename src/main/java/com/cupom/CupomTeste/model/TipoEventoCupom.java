@@ -0,0 +1,10 @@
+package com.cupom.CupomTeste.model;
+
+// O que aconteceu com o cupom; gravado como texto na coupon_events
+public enum TipoEventoCupom {
+    CRIADO,
+    ALTERADO,
+    RESGATADO,
+    EXPIRADO,
+    DELETADO
+}
@@ -0,0 +1,15 @@
+package com.cupom.CupomTeste.model;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+// Marca um id para ser gerado pelo GeradorUuidV7 antes do INSERT
+@IdGeneratorType(GeradorUuidV7.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface UuidV7 {
+}
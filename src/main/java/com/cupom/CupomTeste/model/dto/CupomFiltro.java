@@ -0,0 +1,44 @@
+package com.cupom.CupomTeste.model.dto;
+
+import com.cupom.CupomTeste.model.Status.Status;
+
+// Filtros opcionais da listagem; null significa "qualquer valor"
+public class CupomFiltro {
+
+    private Status status;
+    private Boolean published;
+    private Boolean redeemed;
+
+    public CupomFiltro() {
+    }
+
+    public CupomFiltro(Status status, Boolean published, Boolean redeemed) {
+        this.status = status;
+        this.published = published;
+        this.redeemed = redeemed;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Boolean getPublished() {
+        return published;
+    }
+
+    public void setPublished(Boolean published) {
+        this.published = published;
+    }
+
+    public Boolean getRedeemed() {
+        return redeemed;
+    }
+
+    public void setRedeemed(Boolean redeemed) {
+        this.redeemed = redeemed;
+    }
+}
@@ -0,0 +1,23 @@
+package com.cupom.CupomTeste.model.dto;
+
+import java.util.List;
+
+// Página da listagem (completa ou resumida); proximoCursor é null quando não há mais itens
+public class CupomPagina<T> {
+
+    private final List<T> itens;
+    private final String proximoCursor;
+
+    public CupomPagina(List<T> itens, String proximoCursor) {
+        this.itens = itens;
+        this.proximoCursor = proximoCursor;
+    }
+
+    public List<T> getItens() {
+        return itens;
+    }
+
+    public String getProximoCursor() {
+        return proximoCursor;
+    }
+}
@@ -0,0 +1,48 @@
+package com.cupom.CupomTeste.model.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Atualização parcial: campo nulo significa "não alterar"
+public class CupomPatchRequest {
+
+    private Boolean published;
+    private BigDecimal discountValue;
+    private LocalDateTime expirationDate;
+    private String description;
+
+    public CupomPatchRequest() {
+    }
+
+    public Boolean getPublished() {
+        return published;
+    }
+
+    public void setPublished(Boolean published) {
+        this.published = published;
+    }
+
+    public BigDecimal getDiscountValue() {
+        return discountValue;
+    }
+
+    public void setDiscountValue(BigDecimal discountValue) {
+        this.discountValue = discountValue;
+    }
+
+    public LocalDateTime getExpirationDate() {
+        return expirationDate;
+    }
+
+    public void setExpirationDate(LocalDateTime expirationDate) {
+        this.expirationDate = expirationDate;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
@@ -17,10 +17,21 @@ public class CupomResponse {
     private boolean published;
     private boolean redeemed;
 	
-	public CupomResponse(UUID cupomId, String string, String string2, BigDecimal valueOf, LocalDateTime plusDays,
-			Status active, boolean b, boolean c) {
-		// TODO Auto-generated constructor stub
+	public CupomResponse() {
 	}
+
+	public CupomResponse(UUID id, String code, String description, BigDecimal discountValue,
+			LocalDateTime expirationDate, Status status, boolean published, boolean redeemed) {
+		this.id = id;
+		this.code = code;
+		this.description = description;
+		this.discountValue = discountValue;
+		this.expirationDate = expirationDate;
+		this.status = status;
+		this.published = published;
+		this.redeemed = redeemed;
+	}
+
 	public LocalDateTime getExpirationDate() {
 		return expirationDate;
 	}
@@ -0,0 +1,89 @@
+package com.cupom.CupomTeste.model.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.cupom.CupomTeste.model.Status.Status;
+
+// Visão enxuta do cupom, sem a description: montada direto pela consulta, sem ler o TEXT nem carregar a entidade
+public class CupomResumo {
+
+    private UUID id;
+    private String code;
+    private BigDecimal discountValue;
+    private LocalDateTime expirationDate;
+    private Status status;
+    private boolean published;
+    private boolean redeemed;
+
+    public CupomResumo() {
+    }
+
+    public CupomResumo(UUID id, String code, BigDecimal discountValue, LocalDateTime expirationDate,
+                       Status status, boolean published, boolean redeemed) {
+        this.id = id;
+        this.code = code;
+        this.discountValue = discountValue;
+        this.expirationDate = expirationDate;
+        this.status = status;
+        this.published = published;
+        this.redeemed = redeemed;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public BigDecimal getDiscountValue() {
+        return discountValue;
+    }
+
+    public void setDiscountValue(BigDecimal discountValue) {
+        this.discountValue = discountValue;
+    }
+
+    public LocalDateTime getExpirationDate() {
+        return expirationDate;
+    }
+
+    public void setExpirationDate(LocalDateTime expirationDate) {
+        this.expirationDate = expirationDate;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public boolean isPublished() {
+        return published;
+    }
+
+    public void setPublished(boolean published) {
+        this.published = published;
+    }
+
+    public boolean isRedeemed() {
+        return redeemed;
+    }
+
+    public void setRedeemed(boolean redeemed) {
+        this.redeemed = redeemed;
+    }
+}
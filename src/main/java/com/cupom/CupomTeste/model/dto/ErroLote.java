@@ -0,0 +1,29 @@
+package com.cupom.CupomTeste.model.dto;
+
+import com.cupom.CupomTeste.Exception.TabelaDeErros;
+
+// Falha de um item do lote, identificado pela posição em que chegou na requisição
+public class ErroLote {
+
+    private final int indice;
+    private final String codigoDeErro;
+    private final String mensagem;
+
+    public ErroLote(int indice, TabelaDeErros erro) {
+        this.indice = indice;
+        this.codigoDeErro = erro.getCodigoDeErro();
+        this.mensagem = erro.getMensagem();
+    }
+
+    public int getIndice() {
+        return indice;
+    }
+
+    public String getCodigoDeErro() {
+        return codigoDeErro;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+}
@@ -0,0 +1,29 @@
+package com.cupom.CupomTeste.model.dto;
+
+import java.util.List;
+
+// Resumo de uma operação em lote: quantos itens chegaram, quantos foram aplicados e quais falharam
+public class ResultadoLote {
+
+    private final int total;
+    private final int sucessos;
+    private final List<ErroLote> erros;
+
+    public ResultadoLote(int total, int sucessos, List<ErroLote> erros) {
+        this.total = total;
+        this.sucessos = sucessos;
+        this.erros = erros;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getSucessos() {
+        return sucessos;
+    }
+
+    public List<ErroLote> getErros() {
+        return erros;
+    }
+}
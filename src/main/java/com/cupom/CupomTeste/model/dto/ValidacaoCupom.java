@@ -0,0 +1,29 @@
+package com.cupom.CupomTeste.model.dto;
+
+import java.math.BigDecimal;
+
+// Resposta do caminho rápido de validação: discountValue é null quando o cupom não é válido
+public class ValidacaoCupom {
+
+    private final String code;
+    private final boolean valid;
+    private final BigDecimal discountValue;
+
+    public ValidacaoCupom(String code, boolean valid, BigDecimal discountValue) {
+        this.code = code;
+        this.valid = valid;
+        this.discountValue = discountValue;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    public BigDecimal getDiscountValue() {
+        return discountValue;
+    }
+}
@@ -0,0 +1,78 @@
+package com.cupom.CupomTeste.serializacao;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+
+// Codificação de datas só para o ObjectMapper CBOR; o JSON continua com ISO-8601.
+// UUID e BigDecimal já saem nativos no CBOR (16 bytes e decimal fraction, tag 4) e não precisam de nada aqui.
+public class ModuloCbor extends SimpleModule {
+
+    // Tag 1 do CBOR (RFC 8949): instante em segundos desde a epoch, UTC
+    static final int TAG_EPOCH = 1;
+
+    public ModuloCbor() {
+        super("ModuloCbor");
+        addSerializer(LocalDateTime.class, new DataSerializer());
+        addDeserializer(LocalDateTime.class, new DataDeserializer());
+    }
+
+    // Inteiro quando não há fração de segundo, senão double: nenhum dos dois aloca texto como o ISO-8601
+    static class DataSerializer extends StdScalarSerializer<LocalDateTime> {
+
+        DataSerializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime data, JsonGenerator gerador, SerializerProvider provider) throws IOException {
+            long segundos = data.toEpochSecond(ZoneOffset.UTC);
+            int nanos = data.getNano();
+            if (gerador instanceof CBORGenerator cbor) {
+                cbor.writeTag(TAG_EPOCH);
+            }
+            if (nanos == 0) {
+                gerador.writeNumber(segundos);
+            } else {
+                gerador.writeNumber(segundos + nanos / 1e9);
+            }
+        }
+    }
+
+    // Aceita o formato acima e, para clientes que preferirem, o mesmo texto ISO-8601 do JSON
+    static class DataDeserializer extends StdScalarDeserializer<LocalDateTime> {
+
+        DataDeserializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser parser, DeserializationContext contexto) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                return LocalDateTime.ofEpochSecond(parser.getLongValue(), 0, ZoneOffset.UTC);
+            }
+            if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+                double valor = parser.getDoubleValue();
+                long segundos = (long) Math.floor(valor);
+                // O double guarda ~0,2 µs de resolução nessa faixa: arredonda para o microssegundo gravado no banco
+                long micros = Math.round((valor - segundos) * 1_000_000);
+                return LocalDateTime.ofEpochSecond(segundos, 0, ZoneOffset.UTC).plusNanos(micros * 1_000);
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                return LocalDateTime.parse(parser.getText().trim());
+            }
+            return (LocalDateTime) contexto.handleUnexpectedToken(LocalDateTime.class, parser);
+        }
+    }
+}
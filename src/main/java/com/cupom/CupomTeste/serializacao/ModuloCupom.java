@@ -0,0 +1,240 @@
+package com.cupom.CupomTeste.serializacao;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.cupom.CupomTeste.model.Cupom;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.dto.CupomResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.ser.std.UUIDSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+// Escrita do cupom direto no gerador do Jackson, sem introspecção de bean: nomes de campo e valores do Status
+// já codificados, Status pelo ordinal. Vale para JSON e CBOR: UUID e data seguem os serializadores do próprio
+// ObjectMapper (resolvidos uma vez), e só quando são os padrões num gerador de texto o texto sai daqui mesmo.
+// Serializa tanto o CupomResponse quanto a entidade, que o streaming escreve sem passar pelo mapper.
+@Component
+public class ModuloCupom extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    // Mesma ordem de campos da serialização por bean que este módulo substitui
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString CODE = new SerializedString("code");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString DISCOUNT_VALUE = new SerializedString("discountValue");
+    private static final SerializedString EXPIRATION_DATE = new SerializedString("expirationDate");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString PUBLISHED = new SerializedString("published");
+    private static final SerializedString REDEEMED = new SerializedString("redeemed");
+
+    private static final SerializedString[] VALORES_STATUS = new SerializedString[Status.values().length];
+
+    static {
+        for (Status status : Status.values()) {
+            VALORES_STATUS[status.ordinal()] = new SerializedString(status.name());
+        }
+    }
+
+    // Cabe o UUID (36) e a maior data ISO que escrevemos, yyyy-MM-ddTHH:mm:ss.nnnnnnnnn (29)
+    private static final int TAMANHO_UUID = 36;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    public ModuloCupom() {
+        super("ModuloCupom");
+        addSerializer(CupomResponse.class, new RespostaSerializer(null, null));
+        addSerializer(Cupom.class, new EntidadeSerializer(null, null));
+    }
+
+    // Guarda os serializadores de UUID e LocalDateTime do ObjectMapper em que foi registrado
+    abstract static class CupomSerializer<T> extends StdSerializer<T> implements ContextualSerializer {
+
+        private static final long serialVersionUID = 1L;
+
+        protected final JsonSerializer<Object> uuid;
+        protected final JsonSerializer<Object> data;
+
+        // UUID e data com os serializadores padrão num gerador de texto: escrevemos os caracteres direto,
+        // num único buffer por cupom, sem DateTimeFormatter nem o char[] próprio do UUIDSerializer
+        private final boolean textoPadrao;
+
+        CupomSerializer(Class<T> tipo, JsonSerializer<Object> uuid, JsonSerializer<Object> data) {
+            super(tipo);
+            this.uuid = uuid;
+            this.data = data;
+            this.textoPadrao = uuid != null && uuid.getClass() == UUIDSerializer.class
+                               && (Object) data == LocalDateTimeSerializer.INSTANCE;
+        }
+
+        abstract CupomSerializer<T> com(JsonSerializer<Object> uuid, JsonSerializer<Object> data);
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+            if (uuid != null) {
+                return this;
+            }
+            return com(provider.findValueSerializer(UUID.class), provider.findValueSerializer(LocalDateTime.class));
+        }
+
+        protected void escrever(JsonGenerator gerador, SerializerProvider provider, UUID id, String code,
+                                String description, BigDecimal discountValue, LocalDateTime expirationDate,
+                                Status status, boolean published, boolean redeemed) throws IOException {
+            char[] texto = textoPadrao && !gerador.canWriteBinaryNatively()
+                           && !provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    ? new char[TAMANHO_UUID] : null;
+            gerador.writeStartObject();
+            gerador.writeFieldName(ID);
+            if (id == null) {
+                gerador.writeNull();
+            } else if (texto != null) {
+                escreverUuid(id, texto);
+                gerador.writeString(texto, 0, TAMANHO_UUID);
+            } else {
+                uuid.serialize(id, gerador, provider);
+            }
+            gerador.writeFieldName(CODE);
+            gerador.writeString(code);
+            gerador.writeFieldName(DESCRIPTION);
+            gerador.writeString(description);
+            gerador.writeFieldName(DISCOUNT_VALUE);
+            gerador.writeNumber(discountValue);
+            gerador.writeFieldName(EXPIRATION_DATE);
+            int tamanhoData;
+            if (expirationDate == null) {
+                gerador.writeNull();
+            } else if (texto != null && (tamanhoData = escreverIso(expirationDate, texto)) > 0) {
+                gerador.writeString(texto, 0, tamanhoData);
+            } else {
+                data.serialize(expirationDate, gerador, provider);
+            }
+            gerador.writeFieldName(STATUS);
+            if (status == null) {
+                gerador.writeNull();
+            } else {
+                gerador.writeString(VALORES_STATUS[status.ordinal()]);
+            }
+            gerador.writeFieldName(PUBLISHED);
+            gerador.writeBoolean(published);
+            gerador.writeFieldName(REDEEMED);
+            gerador.writeBoolean(redeemed);
+            gerador.writeEndObject();
+        }
+    }
+
+    static class RespostaSerializer extends CupomSerializer<CupomResponse> {
+
+        private static final long serialVersionUID = 1L;
+
+        RespostaSerializer(JsonSerializer<Object> uuid, JsonSerializer<Object> data) {
+            super(CupomResponse.class, uuid, data);
+        }
+
+        @Override
+        CupomSerializer<CupomResponse> com(JsonSerializer<Object> uuid, JsonSerializer<Object> data) {
+            return new RespostaSerializer(uuid, data);
+        }
+
+        @Override
+        public void serialize(CupomResponse r, JsonGenerator gerador, SerializerProvider provider) throws IOException {
+            escrever(gerador, provider, r.getId(), r.getCode(), r.getDescription(), r.getDiscountValue(),
+                     r.getExpirationDate(), r.getStatus(), r.isPublished(), r.isRedeemed());
+        }
+    }
+
+    static class EntidadeSerializer extends CupomSerializer<Cupom> {
+
+        private static final long serialVersionUID = 1L;
+
+        EntidadeSerializer(JsonSerializer<Object> uuid, JsonSerializer<Object> data) {
+            super(Cupom.class, uuid, data);
+        }
+
+        @Override
+        CupomSerializer<Cupom> com(JsonSerializer<Object> uuid, JsonSerializer<Object> data) {
+            return new EntidadeSerializer(uuid, data);
+        }
+
+        @Override
+        public void serialize(Cupom c, JsonGenerator gerador, SerializerProvider provider) throws IOException {
+            escrever(gerador, provider, c.getId(), c.getCode(), c.getDescription(), c.getDiscountValue(),
+                     c.getExpirationDate(), c.getStatus(), c.isPublished(), c.isRedeemed());
+        }
+    }
+
+    // Mesmo texto do DateTimeFormatter.ISO_LOCAL_DATE_TIME: segundos sempre presentes e fração só com os
+    // dígitos necessários. Devolve -1 para anos fora de 0000..9999, que o ISO escreve com sinal
+    static int escreverIso(LocalDateTime data, char[] texto) {
+        int ano = data.getYear();
+        if (ano < 0 || ano > 9999) {
+            return -1;
+        }
+        int i = digitos(ano, 4, texto, 0);
+        texto[i++] = '-';
+        i = digitos(data.getMonthValue(), 2, texto, i);
+        texto[i++] = '-';
+        i = digitos(data.getDayOfMonth(), 2, texto, i);
+        texto[i++] = 'T';
+        i = digitos(data.getHour(), 2, texto, i);
+        texto[i++] = ':';
+        i = digitos(data.getMinute(), 2, texto, i);
+        texto[i++] = ':';
+        i = digitos(data.getSecond(), 2, texto, i);
+        int nanos = data.getNano();
+        if (nanos > 0) {
+            texto[i++] = '.';
+            int casas = 9;
+            while (nanos % 10 == 0) {
+                nanos /= 10;
+                casas--;
+            }
+            i = digitos(nanos, casas, texto, i);
+        }
+        return i;
+    }
+
+    // Mesmo texto do UUID.toString(): 8-4-4-4-12 dígitos hexadecimais minúsculos
+    static void escreverUuid(UUID id, char[] texto) {
+        long alto = id.getMostSignificantBits();
+        long baixo = id.getLeastSignificantBits();
+        hex(alto >>> 32, 8, texto, 0);
+        texto[8] = '-';
+        hex(alto >>> 16, 4, texto, 9);
+        texto[13] = '-';
+        hex(alto, 4, texto, 14);
+        texto[18] = '-';
+        hex(baixo >>> 48, 4, texto, 19);
+        texto[23] = '-';
+        hex(baixo, 12, texto, 24);
+    }
+
+    private static void hex(long valor, int casas, char[] texto, int inicio) {
+        for (int i = inicio + casas - 1; i >= inicio; i--) {
+            texto[i] = HEX[(int) (valor & 0xF)];
+            valor >>>= 4;
+        }
+    }
+
+    private static int digitos(int valor, int casas, char[] texto, int inicio) {
+        for (int i = inicio + casas - 1; i >= inicio; i--) {
+            texto[i] = (char) ('0' + valor % 10);
+            valor /= 10;
+        }
+        return inicio + casas;
+    }
+}
@@ -0,0 +1,21 @@
+-- Esquema inicial da tabela de cupons; o Hibernate só valida (ddl-auto=validate)
+CREATE TABLE coupons (
+    id              UUID           NOT NULL,
+    code            VARCHAR(6)     NOT NULL,
+    description     CLOB,
+    discount_value  NUMERIC(38, 2) NOT NULL,
+    expiration_date TIMESTAMP(6)   NOT NULL,
+    status          VARCHAR(10)    NOT NULL CHECK (status IN ('ACTIVE', 'DELETED', 'EXPIRED')),
+    published       BOOLEAN        NOT NULL,
+    redeemed        BOOLEAN        NOT NULL,
+    CONSTRAINT pk_coupons PRIMARY KEY (id)
+);
+
+-- Busca e unicidade por código
+CREATE UNIQUE INDEX ux_coupons_code ON coupons (code);
+
+-- Varredura de expiração e listagem filtrada por status, já na ordem do cursor
+CREATE INDEX ix_coupons_status_expiration ON coupons (status, expiration_date, id);
+
+-- Listagem filtrada por published, também na ordem do cursor
+CREATE INDEX ix_coupons_published_expiration ON coupons (published, expiration_date, id);
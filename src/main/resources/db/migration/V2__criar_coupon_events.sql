@@ -0,0 +1,8 @@
+-- Caixa de saída dos eventos de cupom; as linhas vivem só até o RetransmissorDeEventos entregá-las
+CREATE TABLE coupon_events (
+    id          BIGINT       GENERATED BY DEFAULT AS IDENTITY,
+    cupom_id    UUID         NOT NULL,
+    tipo        VARCHAR(10)  NOT NULL CHECK (tipo IN ('CRIADO', 'ALTERADO', 'RESGATADO', 'EXPIRADO', 'DELETADO')),
+    ocorrido_em TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_coupon_events PRIMARY KEY (id)
+);
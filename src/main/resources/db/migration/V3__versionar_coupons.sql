@@ -0,0 +1,3 @@
+-- Versão para trava otimista: o PATCH (ler, alterar, gravar) só grava se a linha não mudou desde a leitura.
+-- Os UPDATEs condicionais (deleção, resgate, expiração) também incrementam a coluna.
+ALTER TABLE coupons ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,8 @@
+-- Trava do RetransmissorDeEventos entre réplicas: cada lote é entregue numa transação que segura o lock desta
+-- linha, então só uma réplica lê e entrega a caixa de saída por vez. O lock cai no commit ou com a conexão.
+CREATE TABLE outbox_relay (
+    nome VARCHAR(40) NOT NULL,
+    CONSTRAINT pk_outbox_relay PRIMARY KEY (nome)
+);
+
+INSERT INTO outbox_relay (nome) VALUES ('coupon_events');
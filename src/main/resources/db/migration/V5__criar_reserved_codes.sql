@@ -0,0 +1,10 @@
+-- Códigos entregues por POST /coupon/codes e ainda não usados: entram no filtro do GeradorDeCodigos a cada
+-- reconstrução, para não voltarem a ser gerados. A reserva vence depois de cupom.codigos.validade-reserva
+CREATE TABLE reserved_codes (
+    code         VARCHAR(6)   NOT NULL,
+    reservado_em TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_reserved_codes PRIMARY KEY (code)
+);
+
+-- Limpeza das reservas vencidas
+CREATE INDEX ix_reserved_codes_reservado_em ON reserved_codes (reservado_em);
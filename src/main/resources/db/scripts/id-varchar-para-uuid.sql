@@ -0,0 +1,13 @@
+-- Converte coupons.id de VARCHAR(36) para UUID nativo (16 bytes) em um banco H2 já existente.
+-- Os ids antigos (v4, texto) continuam válidos; os novos passam a ser v7, gerados pela aplicação.
+-- Rodar com a aplicação parada, depois de um backup:
+--   java -cp h2-*.jar org.h2.tools.RunScript -url jdbc:h2:<arquivo> -user sa -script id-varchar-para-uuid.sql
+
+-- Falha aqui, sem alterar nada, se existir algum id que não seja um UUID em texto
+SELECT CAST(id AS UUID) FROM coupons;
+
+ALTER TABLE coupons ALTER COLUMN id SET DATA TYPE UUID;
+
+-- A troca de tipo já recria a tabela e os índices secundários com o id no formato novo;
+-- o ANALYZE só recalcula as estatísticas de seletividade que o otimizador usa para escolher índices
+ANALYZE TABLE coupons;
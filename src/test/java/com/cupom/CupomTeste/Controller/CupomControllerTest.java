@@ -1,16 +1,20 @@
 package com.cupom.CupomTeste.Controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -26,8 +30,14 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.cupom.CupomTeste.Exception.NegocioException;
 import com.cupom.CupomTeste.Exception.TabelaDeErros;
+import com.cupom.CupomTeste.Service.CupomLoteService;
 import com.cupom.CupomTeste.Service.CupomService;
+import com.cupom.CupomTeste.metricas.CupomMetricas;
+import com.cupom.CupomTeste.model.dto.CupomFiltro;
+import com.cupom.CupomTeste.model.dto.CupomPagina;
+import com.cupom.CupomTeste.model.dto.CupomPatchRequest;
 import com.cupom.CupomTeste.model.dto.CupomRequest;
+import com.cupom.CupomTeste.model.dto.ResultadoLote;
 
 @WebMvcTest(CupomController.class)
 @DisplayName("Testes da classe CupomController")
@@ -39,6 +49,12 @@ public class CupomControllerTest {
     @MockBean
     private CupomService cupomService;
 
+    @MockBean
+    private CupomLoteService cupomLoteService;
+
+    @MockBean
+    private CupomMetricas cupomMetricas;
+
     private UUID cupomId;
     private LocalDateTime expirationDate;
 
@@ -94,6 +110,20 @@ public class CupomControllerTest {
                 .andExpect(status().isCreated());
     }
 
+    @Test
+    @DisplayName("Deve aceitar lote em NDJSON e retornar o resumo")
+    void testCreateCupomsBatch() throws Exception {
+        when(cupomLoteService.createCupoms(any(InputStream.class)))
+            .thenReturn(new ResultadoLote(2, 2, List.of()));
+
+        mockMvc.perform(post("/coupon/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"code\":\"AAA111\"}\n{\"code\":\"BBB222\"}\n"))
+                .andExpect(status().isOk());
+
+        verify(cupomLoteService, times(1)).createCupoms(any(InputStream.class));
+    }
+
     @Test
     @DisplayName("Deve retornar cupom por id com sucesso e retornar 200")
     void testGetCupomByIdSuccess() throws Exception {
@@ -106,6 +136,22 @@ public class CupomControllerTest {
         verify(cupomService, times(1)).getCupomById(cupomId);
     }
 
+    @Test
+    @DisplayName("Deve listar cupons paginados repassando filtros e cursor")
+    void testGetAllCupoms() throws Exception {
+        when(cupomService.getAllCupoms(any(CupomFiltro.class), eq("abc"), eq(20)))
+            .thenReturn(ResponseEntity.ok(new CupomPagina<>(List.of(), null)));
+
+        mockMvc.perform(get("/coupon")
+                .param("status", "ACTIVE")
+                .param("published", "true")
+                .param("cursor", "abc")
+                .param("limit", "20"))
+                .andExpect(status().isOk());
+
+        verify(cupomService, times(1)).getAllCupoms(any(CupomFiltro.class), eq("abc"), eq(20));
+    }
+
     @Test
     @DisplayName("Deve chamar service ao buscar cupom por id")
     void testGetCupomByIdCallsService() throws Exception {
@@ -130,6 +176,32 @@ public class CupomControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("Deve retornar cupom por código com sucesso e retornar 200")
+    void testGetCupomByCodeSuccess() throws Exception {
+        when(cupomService.getCupomByCode("ABC123"))
+            .thenReturn(ResponseEntity.ok().build());
+
+        mockMvc.perform(get("/coupon/code/{code}", "ABC123"))
+                .andExpect(status().isOk());
+
+        verify(cupomService, times(1)).getCupomByCode("ABC123");
+    }
+
+    @Test
+    @DisplayName("Deve retornar 409 ao resgatar cupom já resgatado")
+    void testRedeemCupomConflict() throws Exception {
+        when(cupomService.redeemCupom(cupomId))
+            .thenThrow(new NegocioException(TabelaDeErros.CUPOM_JA_RESGATADO));
+
+        mockMvc.perform(post("/coupon/{id}/redeem", cupomId))
+                .andExpect(status().isConflict())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{\"codigoDeErro\":\"2001-2003\",\"mensagem\":\"O cupom já foi resgatado\"}"));
+
+        verify(cupomService, times(1)).redeemCupom(cupomId);
+    }
+
     @Test
     @DisplayName("Deve deletar cupom com sucesso e retornar 204")
     void testDeleteCupomSuccess() throws Exception {
@@ -154,6 +226,48 @@ public class CupomControllerTest {
         verify(cupomService, times(1)).deleteCupom(cupomId);
     }
 
+    @Test
+    @DisplayName("Deve aceitar deleção em lote e retornar 202")
+    void testDeleteCupomsAccepted() throws Exception {
+        when(cupomLoteService.deleteCupoms(List.of(cupomId)))
+            .thenReturn(new ResultadoLote(1, 1, List.of()));
+
+        mockMvc.perform(delete("/coupon/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[\"" + cupomId + "\"]"))
+                .andExpect(status().isAccepted())
+                .andExpect(content().json("{\"total\":1,\"sucessos\":1}"));
+
+        verify(cupomLoteService, times(1)).deleteCupoms(List.of(cupomId));
+    }
+
+    @Test
+    @DisplayName("Deve listar o resumo com os mesmos filtros da listagem")
+    void testGetCupomSummaries() throws Exception {
+        when(cupomService.getCupomSummaries(any(CupomFiltro.class), eq("abc"), eq(20)))
+            .thenReturn(ResponseEntity.ok(new CupomPagina<>(List.of(), null)));
+
+        mockMvc.perform(get("/coupon/summary").param("status", "ACTIVE").param("cursor", "abc").param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"itens\":[]}"));
+
+        verify(cupomService, times(1)).getCupomSummaries(any(CupomFiltro.class), eq("abc"), eq(20));
+    }
+
+    @Test
+    @DisplayName("Deve repassar o PATCH parcial ao serviço e retornar 200")
+    void testPatchCupom() throws Exception {
+        when(cupomService.patchCupom(eq(cupomId), any(CupomPatchRequest.class)))
+            .thenReturn(ResponseEntity.ok().build());
+
+        mockMvc.perform(patch("/coupon/{id}", cupomId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"published\": false}"))
+                .andExpect(status().isOk());
+
+        verify(cupomService, times(1)).patchCupom(eq(cupomId), any(CupomPatchRequest.class));
+    }
+
     @Test
     @DisplayName("Deve retornar erro 404 ao deletar cupom inexistente")
     void testDeleteCupomNotFound() throws Exception {
@@ -0,0 +1,216 @@
+package com.cupom.CupomTeste.Controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.cupom.CupomTeste.Exception.TabelaDeErros;
+import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.Repository.EventoCupomRepository;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.TipoEventoCupom;
+import com.cupom.CupomTeste.model.dto.CupomRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles({ "test", "reactive" })
+@DisplayName("Testes da classe CupomReativoController")
+class CupomReativoControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private CupomRepository cupomRepository;
+
+    @Autowired
+    private EventoCupomRepository eventoCupomRepository;
+
+    private CupomRequest cupomRequest;
+
+    @BeforeEach
+    void setUp() {
+        cupomRequest = new CupomRequest();
+        cupomRequest.setCode("ABC-123");
+        cupomRequest.setDescription("Cupom reativo");
+        cupomRequest.setDiscountValue(BigDecimal.valueOf(10.0));
+        cupomRequest.setExpirationDate(LocalDateTime.now().plusDays(30));
+        cupomRequest.setPublished(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cupomRepository.deleteAllInBatch();
+        eventoCupomRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Deve criar e buscar cupom por id e por código")
+    void testCreateAndGet() {
+        // Arrange
+        cupomRequest.setCode("GET-123");
+
+        // Act
+        String id = criar(cupomRequest);
+
+        // Assert
+        webTestClient.get().uri("/coupon/{id}", id).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("GET123")
+                .jsonPath("$.status").isEqualTo(Status.ACTIVE.name())
+                .jsonPath("$.description").isEqualTo("Cupom reativo");
+        webTestClient.get().uri("/coupon/code/{code}", "GET-123").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.id").isEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("Deve recusar código repetido e dados inválidos com o status e o código da TabelaDeErros")
+    void testErrorMapping() {
+        // Arrange
+        criar(cupomRequest);
+
+        // Act & Assert
+        webTestClient.post().uri("/coupon").bodyValue(cupomRequest).exchange()
+                .expectStatus().isEqualTo(TabelaDeErros.CODIGO_JA_CADASTRADO.getCodigoHttp())
+                .expectBody().jsonPath("$.codigoDeErro").isEqualTo(TabelaDeErros.CODIGO_JA_CADASTRADO.getCodigoDeErro());
+
+        cupomRequest.setCode("XYZ789");
+        cupomRequest.setDiscountValue(BigDecimal.valueOf(0.1));
+        webTestClient.post().uri("/coupon").bodyValue(cupomRequest).exchange()
+                .expectStatus().isEqualTo(TabelaDeErros.VALOR_DESCONTO_INVALIDO.getCodigoHttp())
+                .expectBody().jsonPath("$.codigoDeErro").isEqualTo(TabelaDeErros.VALOR_DESCONTO_INVALIDO.getCodigoDeErro());
+        assertEquals(1, eventoCupomRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve resgatar uma única vez e deletar uma única vez")
+    void testRedeemAndDelete() {
+        // Arrange
+        String id = criar(cupomRequest);
+
+        // Act & Assert
+        webTestClient.post().uri("/coupon/{id}/redeem", id).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.redeemed").isEqualTo(true);
+        webTestClient.post().uri("/coupon/code/{code}/redeem", "ABC123").exchange()
+                .expectStatus().isEqualTo(TabelaDeErros.CUPOM_JA_RESGATADO.getCodigoHttp())
+                .expectBody().jsonPath("$.codigoDeErro").isEqualTo(TabelaDeErros.CUPOM_JA_RESGATADO.getCodigoDeErro());
+
+        webTestClient.delete().uri("/coupon/{id}", id).exchange()
+                .expectStatus().isNoContent();
+        webTestClient.delete().uri("/coupon/{id}", id).exchange()
+                .expectStatus().isEqualTo(TabelaDeErros.CUPOM_JA_DELETADO.getCodigoHttp())
+                .expectBody().jsonPath("$.codigoDeErro").isEqualTo(TabelaDeErros.CUPOM_JA_DELETADO.getCodigoDeErro());
+        assertEquals(List.of(TipoEventoCupom.CRIADO, TipoEventoCupom.RESGATADO, TipoEventoCupom.DELETADO), eventos(id));
+    }
+
+    @Test
+    @DisplayName("Deve paginar por cursor e transmitir a listagem em NDJSON")
+    void testListAndStream() {
+        // Arrange
+        cupomRequest.setCode(null);
+        for (int i = 0; i < 5; i++) {
+            criar(cupomRequest);
+        }
+
+        // Act
+        JsonNode primeira = webTestClient.get().uri("/coupon?limit=3").exchange()
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class).returnResult().getResponseBody();
+        JsonNode segunda = webTestClient.get()
+                .uri("/coupon?limit=3&cursor={cursor}", primeira.get("proximoCursor").asText()).exchange()
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class).returnResult().getResponseBody();
+        String linhas = webTestClient.get().uri("/coupon/stream?status=ACTIVE")
+                .accept(MediaType.APPLICATION_NDJSON).exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).returnResult().getResponseBody();
+
+        // Assert
+        assertEquals(3, primeira.get("itens").size());
+        assertEquals(2, segunda.get("itens").size());
+        assertTrue(segunda.get("proximoCursor").isNull());
+        assertEquals(5, linhas.lines().count());
+    }
+
+    @Test
+    @DisplayName("Deve gravar lote NDJSON reportando erro por item")
+    void testBatch() {
+        // Arrange
+        String item = """
+            {"code":"%s","description":"Campanha","discountValue":5.0,"expirationDate":"%s","published":true}
+            """;
+        String data = LocalDateTime.now().plusDays(10).toString();
+        String corpo = item.formatted("LOT001", data) + item.formatted("AB", data) + item.formatted("LOT001", data);
+
+        // Act
+        JsonNode resultado = webTestClient.post().uri("/coupon/batch")
+                .contentType(MediaType.APPLICATION_NDJSON).bodyValue(corpo).exchange()
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class).returnResult().getResponseBody();
+
+        // Assert
+        assertEquals(3, resultado.get("total").asInt());
+        assertEquals(1, resultado.get("sucessos").asInt());
+        assertEquals(TabelaDeErros.CODIGO_INVALIDO.getCodigoDeErro(),
+                resultado.get("erros").get(0).get("codigoDeErro").asText());
+        assertEquals(2, resultado.get("erros").get(1).get("indice").asInt());
+        assertEquals(TabelaDeErros.CODIGO_JA_CADASTRADO.getCodigoDeErro(),
+                resultado.get("erros").get(1).get("codigoDeErro").asText());
+    }
+
+    @Test
+    @DisplayName("Rotas só da pilha servlet devem responder 501 em vez de cair em {id}")
+    void testServletOnlyRoutes() {
+        // Arrange
+        String id = criar(cupomRequest);
+        TabelaDeErros erro = TabelaDeErros.ROTA_SO_NA_VARIANTE_SERVLET;
+
+        // Act & Assert
+        webTestClient.get().uri("/coupon/summary").exchange()
+                .expectStatus().isEqualTo(erro.getCodigoHttp())
+                .expectBody().jsonPath("$.codigoDeErro").isEqualTo(erro.getCodigoDeErro());
+        webTestClient.get().uri("/coupon/code/{code}/summary", "ABC123").exchange()
+                .expectStatus().isEqualTo(erro.getCodigoHttp());
+        webTestClient.get().uri("/coupon/code/{code}/validation", "ABC123").exchange()
+                .expectStatus().isEqualTo(erro.getCodigoHttp());
+        webTestClient.patch().uri("/coupon/{id}", id).bodyValue("{}").exchange()
+                .expectStatus().isEqualTo(erro.getCodigoHttp());
+        webTestClient.method(HttpMethod.DELETE).uri("/coupon/batch").bodyValue(List.of(id)).exchange()
+                .expectStatus().isEqualTo(erro.getCodigoHttp());
+    }
+
+    private String criar(CupomRequest request) {
+        return webTestClient.post().uri("/coupon").bodyValue(request).exchange()
+                .expectStatus().isCreated()
+                .expectBody(JsonNode.class).returnResult().getResponseBody()
+                .get("id").asText();
+    }
+
+    // Eventos gravados na caixa de saída para o cupom, na ordem de gravação
+    private List<TipoEventoCupom> eventos(String id) {
+        return eventoCupomRepository.findAll().stream()
+                .filter(e -> e.getCupomId().equals(UUID.fromString(id)))
+                .sorted((a, b) -> a.getId().compareTo(b.getId()))
+                .map(e -> e.getTipo())
+                .toList();
+    }
+}
@@ -0,0 +1,57 @@
+package com.cupom.CupomTeste.Exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+@DisplayName("Testes da classe NegocioException")
+class NegocioExceptionTest {
+
+    @Test
+    @DisplayName("Deve guardar a entrada da TabelaDeErros sem preencher stack trace")
+    void testStacklessWithDirectReference() {
+        // Act
+        NegocioException ex = new NegocioException(TabelaDeErros.CUPOM_EXPIRADO);
+
+        // Assert
+        assertSame(TabelaDeErros.CUPOM_EXPIRADO, ex.getErro());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, ex.getCodigoHttp());
+        assertEquals(TabelaDeErros.CUPOM_EXPIRADO.getMensagem(), ex.getMessage());
+        assertEquals(0, ex.getStackTrace().length);
+    }
+
+    @Test
+    @DisplayName("Deve servir o mesmo corpo JSON pré-serializado a cada erro")
+    void testPreSerializedBody() throws IOException {
+        // Act
+        CorposDeErro.Corpo corpo = CorposDeErro.de(TabelaDeErros.CUPOM_NAO_ENCONTRADO);
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        corpo.escreverEm(saida);
+
+        // Assert
+        assertSame(corpo, CorposDeErro.de(TabelaDeErros.CUPOM_NAO_ENCONTRADO));
+        assertEquals("{\"codigoDeErro\":\"2001-2000\",\"mensagem\":\"Cupom não encontrado\"}",
+                     saida.toString(StandardCharsets.UTF_8));
+        assertEquals(saida.size(), corpo.contentLength());
+    }
+
+    @Test
+    @DisplayName("Alterar os bytes lidos não deve afetar as respostas seguintes")
+    void testBodyCannotBeMutated() throws IOException {
+        // Arrange
+        byte[] lido = CorposDeErro.de(TabelaDeErros.CUPOM_NAO_ENCONTRADO).getContentAsByteArray();
+
+        // Act
+        lido[0] = 'X';
+
+        // Assert
+        assertEquals('{', CorposDeErro.de(TabelaDeErros.CUPOM_NAO_ENCONTRADO).getContentAsByteArray()[0]);
+    }
+}
@@ -0,0 +1,81 @@
+package com.cupom.CupomTeste.Model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.model.Cupom;
+import com.cupom.CupomTeste.model.GeradorUuidV7;
+import com.cupom.CupomTeste.model.Status.Status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes da classe GeradorUuidV7")
+class GeradorUuidV7Test {
+
+    @Autowired
+    private CupomRepository cupomRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        cupomRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Deve gerar UUID versão 7 com o milissegundo atual e ordem estritamente crescente")
+    void testVersionAndOrder() {
+        // Arrange
+        long antes = System.currentTimeMillis();
+
+        // Act
+        UUID anterior = GeradorUuidV7.gerar();
+        for (int i = 0; i < 100_000; i++) {
+            UUID atual = GeradorUuidV7.gerar();
+
+            // Assert
+            assertTrue(atual.compareTo(anterior) > 0);
+            anterior = atual;
+        }
+        assertEquals(7, anterior.version());
+        assertEquals(2, anterior.variant());
+        assertTrue((anterior.getMostSignificantBits() >>> 16) >= antes);
+    }
+
+    @Test
+    @DisplayName("Deve gravar o id como UUID nativo gerado pelo GeradorUuidV7")
+    void testNativeColumnAndGeneratedId() {
+        // Arrange
+        Cupom cupom = new Cupom();
+        cupom.setCode("UID001");
+        cupom.setDescription("Id ordenado");
+        cupom.setDiscountValue(BigDecimal.TEN);
+        cupom.setExpirationDate(LocalDateTime.now().plusDays(1));
+        cupom.setStatus(Status.ACTIVE);
+
+        // Act
+        UUID id = cupomRepository.save(cupom).getId();
+        String tipo = jdbcTemplate.queryForObject(
+                "select data_type from information_schema.columns where table_name = 'COUPONS' and column_name = 'ID'",
+                String.class);
+
+        // Assert
+        assertEquals(7, id.version());
+        assertEquals("UUID", tipo);
+        assertTrue(cupomRepository.findById(id).isPresent());
+    }
+}
@@ -8,16 +8,20 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.cupom.CupomTeste.model.Cupom;
 import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.dto.CupomResumo;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -94,6 +98,23 @@ class CupomRepositoryTest {
         assertEquals("Cupom de teste", foundCupom.get().getDescription());
     }
 
+    @Test
+    @DisplayName("Deve rejeitar dois cupons com o mesmo código")
+    void testUniqueCode() {
+        // Arrange
+        cupomRepository.saveAndFlush(cupom);
+
+        Cupom duplicado = new Cupom();
+        duplicado.setCode("ABC123");
+        duplicado.setDescription("Duplicado");
+        duplicado.setDiscountValue(BigDecimal.valueOf(5.0));
+        duplicado.setExpirationDate(expirationDate);
+        duplicado.setStatus(Status.ACTIVE);
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> cupomRepository.saveAndFlush(duplicado));
+    }
+
     @Test
     @DisplayName("Deve retornar vazio ao buscar cupom inexistente por código")
     void testFindCupomByCodeNotFound() {
@@ -142,6 +163,84 @@ class CupomRepositoryTest {
         assertTrue(cupoms.stream().anyMatch(c -> c.getCode().equals("XYZ789")));
     }
 
+    @Test
+    @DisplayName("Deve paginar por chave (expirationDate, id) respeitando os filtros")
+    void testKeysetPagination() {
+        // Arrange
+        Cupom cupom2 = new Cupom();
+        cupom2.setCode("PAG002");
+        cupom2.setDescription("Segunda página");
+        cupom2.setDiscountValue(BigDecimal.valueOf(20.0));
+        cupom2.setExpirationDate(expirationDate.plusDays(1));
+        cupom2.setStatus(Status.ACTIVE);
+        cupom2.setPublished(true);
+
+        Cupom naoPublicado = new Cupom();
+        naoPublicado.setCode("PAG003");
+        naoPublicado.setDescription("Fora do filtro");
+        naoPublicado.setDiscountValue(BigDecimal.valueOf(20.0));
+        naoPublicado.setExpirationDate(expirationDate.plusDays(2));
+        naoPublicado.setStatus(Status.ACTIVE);
+        naoPublicado.setPublished(false);
+
+        cupomRepository.saveAll(List.of(cupom, cupom2, naoPublicado));
+        // Relê do banco: o cursor precisa da data com a precisão gravada na coluna
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // Act
+        List<Cupom> primeira = cupomRepository.buscarPagina(null, true, null, PageRequest.ofSize(1));
+        Cupom ultimo = primeira.get(0);
+        List<Cupom> segunda = cupomRepository.buscarPaginaApos(null, true, null, ultimo.getExpirationDate(),
+                                                               ultimo.getId(), PageRequest.ofSize(10));
+
+        // Assert
+        assertEquals(1, primeira.size());
+        assertEquals("ABC123", ultimo.getCode());
+        assertEquals(1, segunda.size());
+        assertEquals("PAG002", segunda.get(0).getCode());
+    }
+
+    @Test
+    @DisplayName("Deve carregar a description só nas leituras completas")
+    void testDescriptionIsLazy() {
+        // Arrange
+        UUID savedId = cupomRepository.save(cupom).getId();
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // Act
+        Cupom parcial = cupomRepository.findById(savedId).orElseThrow();
+        testEntityManager.clear();
+        Cupom completo = cupomRepository.buscarCompleto(savedId).orElseThrow();
+
+        // Assert
+        assertFalse(Hibernate.isPropertyInitialized(parcial, "description"));
+        assertTrue(Hibernate.isPropertyInitialized(completo, "description"));
+        assertEquals("Cupom de teste", completo.getDescription());
+    }
+
+    @Test
+    @DisplayName("Deve projetar resumos e ids sem montar entidades")
+    void testSummaryProjections() {
+        // Arrange
+        UUID savedId = cupomRepository.save(cupom).getId();
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // Act
+        List<CupomResumo> resumos = cupomRepository.buscarResumos(Status.ACTIVE, null, null, PageRequest.ofSize(10));
+        Optional<CupomResumo> porCodigo = cupomRepository.buscarResumoPorCodigo("ABC123");
+        Optional<UUID> id = cupomRepository.buscarIdPorCodigo("ABC123");
+
+        // Assert
+        assertEquals(1, resumos.size());
+        assertEquals("ABC123", resumos.get(0).getCode());
+        assertEquals(0, BigDecimal.valueOf(10.0).compareTo(porCodigo.orElseThrow().getDiscountValue()));
+        assertEquals(savedId, id.orElseThrow());
+        assertTrue(cupomRepository.buscarIdPorCodigo("NAOEXI").isEmpty());
+    }
+
     @Test
     @DisplayName("Deve deletar cupom por id")
     void testDeleteCupomById() {
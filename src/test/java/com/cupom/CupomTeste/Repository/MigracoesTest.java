@@ -0,0 +1,75 @@
+package com.cupom.CupomTeste.Repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cupom.CupomTeste.Config.MigracaoConfig;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@DisplayName("Testes das migrações do Flyway")
+class MigracoesTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve aplicar a migração inicial com sucesso")
+    void testMigrationApplied() {
+        // Act
+        List<String> versoes = jdbcTemplate.queryForList(
+                "select \"version\" from \"flyway_schema_history\" where \"success\" = true", String.class);
+
+        // Assert
+        assertTrue(versoes.contains("1"));
+    }
+
+    @Test
+    @DisplayName("Deve criar os índices de código, status e published")
+    void testIndexesCreated() {
+        // Act
+        List<String> indices = jdbcTemplate.queryForList(
+                "select index_name from information_schema.indexes where table_name = 'COUPONS'", String.class);
+
+        // Assert
+        assertTrue(indices.contains("UX_COUPONS_CODE"));
+        assertTrue(indices.contains("IX_COUPONS_STATUS_EXPIRATION"));
+        assertTrue(indices.contains("IX_COUPONS_PUBLISHED_EXPIRATION"));
+        assertEquals("UNIQUE INDEX", jdbcTemplate.queryForObject(
+                "select index_type_name from information_schema.indexes where index_name = 'UX_COUPONS_CODE'",
+                String.class));
+    }
+
+    @Test
+    @DisplayName("Deve recusar a subida com instruções quando o banco tem tabelas e não tem o histórico do Flyway")
+    void testLegacySchemaFailsFast() {
+        // Arrange
+        DriverManagerDataSource legado = new DriverManagerDataSource("jdbc:h2:mem:legado;DB_CLOSE_DELAY=-1", "sa", "");
+        new JdbcTemplate(legado).execute("create table coupons (id varchar(36) primary key)");
+        Flyway flyway = Flyway.configure().dataSource(legado).load();
+
+        // Act
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> new MigracaoConfig().estrategiaDeMigracao().migrate(flyway));
+
+        // Assert
+        assertTrue(exception.getMessage().contains("id-varchar-para-uuid.sql"));
+        assertEquals(0, new JdbcTemplate(legado).queryForObject(
+                "select count(*) from information_schema.tables where table_name = 'flyway_schema_history'",
+                Integer.class));
+    }
+}
@@ -0,0 +1,148 @@
+package com.cupom.CupomTeste.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.model.Cupom;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.dto.CupomPatchRequest;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.cupom.CupomTeste.Service.AtualizacaoParcialTest$CapturaDeSql")
+@ActiveProfiles("test")
+@DisplayName("Testes de atualização parcial do Cupom")
+class AtualizacaoParcialTest {
+
+    // Guarda os UPDATEs enviados ao banco pelo Hibernate
+    public static class CapturaDeSql implements StatementInspector {
+
+        static final List<String> UPDATES = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.regionMatches(true, 0, "update", 0, 6)) {
+                UPDATES.add(sql.toLowerCase());
+            }
+            return sql;
+        }
+    }
+
+    @Autowired
+    private CupomService cupomService;
+
+    @Autowired
+    private CupomRepository cupomRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UUID cupomId;
+
+    @BeforeEach
+    void setUp() {
+        Cupom cupom = new Cupom();
+        cupom.setCode("PAT" + (System.nanoTime() % 1000));
+        cupom.setDescription("Descrição longa que não deve ser reenviada");
+        cupom.setDiscountValue(BigDecimal.TEN);
+        cupom.setExpirationDate(LocalDateTime.now().plusDays(30));
+        cupom.setStatus(Status.ACTIVE);
+        cupom.setPublished(true);
+        cupomId = cupomRepository.save(cupom).getId();
+        CapturaDeSql.UPDATES.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cupomRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("O UPDATE do PATCH deve levar só as colunas alteradas")
+    void testPatchWritesOnlyChangedColumns() {
+        // Arrange
+        CupomPatchRequest alteracoes = new CupomPatchRequest();
+        alteracoes.setPublished(false);
+        alteracoes.setDescription("Descrição longa que não deve ser reenviada");
+
+        // Act
+        cupomService.patchCupom(cupomId, alteracoes);
+
+        // Assert
+        assertEquals(1, CapturaDeSql.UPDATES.size());
+        String update = CapturaDeSql.UPDATES.get(0);
+        assertTrue(update.contains("published"));
+        assertFalse(update.contains("description"));
+        assertFalse(update.contains("discount_value"));
+        assertFalse(cupomRepository.findById(cupomId).orElseThrow().isPublished());
+    }
+
+    @Test
+    @DisplayName("PATCH sem mudança efetiva não deve gerar UPDATE")
+    void testPatchWithoutChangesSkipsUpdate() {
+        // Arrange
+        CupomPatchRequest alteracoes = new CupomPatchRequest();
+        alteracoes.setDiscountValue(new BigDecimal("10.00"));
+
+        // Act
+        cupomService.patchCupom(cupomId, alteracoes);
+
+        // Assert
+        assertTrue(CapturaDeSql.UPDATES.isEmpty());
+    }
+
+    @Test
+    @DisplayName("A deleção individual deve gravar só a coluna status")
+    void testDeleteWritesOnlyStatus() {
+        // Act
+        cupomService.deleteCupom(cupomId);
+
+        // Assert
+        assertEquals(1, CapturaDeSql.UPDATES.size());
+        assertFalse(CapturaDeSql.UPDATES.get(0).contains("description"));
+        assertEquals(Status.DELETED, cupomRepository.findById(cupomId).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Uma deleção gravada depois da leitura deve barrar o UPDATE da alteração")
+    void testConcurrentDeleteIsNotOverwritten() {
+        // Arrange
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        TransactionTemplate outraTransacao = new TransactionTemplate(transactionManager);
+        outraTransacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // Act
+        assertThrows(OptimisticLockingFailureException.class, () -> transacao.executeWithoutResult(t -> {
+            Cupom cupom = cupomRepository.findById(cupomId).orElseThrow();
+            outraTransacao.executeWithoutResult(d -> cupomRepository.deletar(cupomId, Status.DELETED));
+            cupom.setStatus(Status.ACTIVE);
+            cupom.setPublished(false);
+        }));
+
+        // Assert
+        Cupom gravado = cupomRepository.findById(cupomId).orElseThrow();
+        assertEquals(Status.DELETED, gravado.getStatus());
+        assertTrue(gravado.isPublished());
+    }
+}
@@ -0,0 +1,152 @@
+package com.cupom.CupomTeste.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cupom.CupomTeste.Exception.TabelaDeErros;
+import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.model.dto.ResultadoLote;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes da classe CupomLoteService")
+class CupomLoteServiceTest {
+
+    @Autowired
+    private CupomLoteService cupomLoteService;
+
+    @Autowired
+    private CupomRepository cupomRepository;
+
+    private final LocalDateTime expirationDate = LocalDateTime.now().plusDays(30);
+
+    @AfterEach
+    void tearDown() {
+        cupomRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Deve gravar um lote NDJSON em vários blocos")
+    void testCreateNdjsonInManyChunks() throws Exception {
+        // Arrange
+        StringBuilder corpo = new StringBuilder();
+        for (int i = 0; i < 2500; i++) {
+            corpo.append(item("L%05d".formatted(i))).append('\n');
+        }
+
+        // Act
+        ResultadoLote resultado = cupomLoteService.createCupoms(corpo(corpo.toString()));
+
+        // Assert
+        assertEquals(2500, resultado.getTotal());
+        assertEquals(2500, resultado.getSucessos());
+        assertTrue(resultado.getErros().isEmpty());
+        assertEquals(2500, cupomRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve reportar erro por item sem interromper o restante do array")
+    void testPerItemErrors() throws Exception {
+        // Arrange
+        cupomLoteService.createCupoms(corpo("[" + item("EXIST1") + "]"));
+        String corpo = "[" + item("NOVO01") + "," + item("AB") + "," + item("EXIST1") + ","
+                     + item("NOVO01") + "," + item("NOVO02") + "]";
+
+        // Act
+        ResultadoLote resultado = cupomLoteService.createCupoms(corpo(corpo));
+
+        // Assert
+        assertEquals(5, resultado.getTotal());
+        assertEquals(2, resultado.getSucessos());
+        assertEquals(3, resultado.getErros().size());
+        assertEquals(1, resultado.getErros().get(0).getIndice());
+        assertEquals(TabelaDeErros.CODIGO_INVALIDO.getCodigoDeErro(), resultado.getErros().get(0).getCodigoDeErro());
+        assertEquals(TabelaDeErros.CODIGO_JA_CADASTRADO.getCodigoDeErro(), resultado.getErros().get(1).getCodigoDeErro());
+        assertEquals(TabelaDeErros.CODIGO_JA_CADASTRADO.getCodigoDeErro(), resultado.getErros().get(2).getCodigoDeErro());
+        assertEquals(3, cupomRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve seguir para a próxima linha do NDJSON depois de uma linha ilegível")
+    void testNdjsonContinuesAfterUnreadableLine() throws Exception {
+        // Arrange
+        String corpo = item("LIN001") + "\n{\"code\":\"LIN002\",\n" + item("LIN003") + "\n\n"
+                     + item("LIN004").replace("5.0", "\"cinco\"") + "\n" + item("LIN005") + "\n";
+
+        // Act
+        ResultadoLote resultado = cupomLoteService.createCupoms(corpo(corpo));
+
+        // Assert
+        assertEquals(5, resultado.getTotal());
+        assertEquals(3, resultado.getSucessos());
+        assertEquals(List.of(1, 3), resultado.getErros().stream().map(e -> e.getIndice()).toList());
+        assertTrue(resultado.getErros().stream().allMatch(
+                e -> e.getCodigoDeErro().equals(TabelaDeErros.ITEM_LOTE_INVALIDO.getCodigoDeErro())));
+        assertEquals(3, cupomRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve recusar só o item de tipo errado e marcar como não processado o resto de um array ilegível")
+    void testArrayItemErrors() throws Exception {
+        // Arrange
+        String comTipoErrado = "[" + item("ARR001") + "," + item("ARR002").replace("5.0", "[1]") + ","
+                             + item("ARR003") + "]";
+        String truncado = "[" + item("ARR004") + ",{\"code\":\"ARR005\"," + item("ARR006") + "]";
+
+        // Act
+        ResultadoLote tipoErrado = cupomLoteService.createCupoms(corpo(comTipoErrado));
+        ResultadoLote ilegivel = cupomLoteService.createCupoms(corpo(truncado));
+
+        // Assert
+        assertEquals(3, tipoErrado.getTotal());
+        assertEquals(2, tipoErrado.getSucessos());
+        assertEquals(1, tipoErrado.getErros().get(0).getIndice());
+        assertEquals(TabelaDeErros.ITEM_LOTE_INVALIDO.getCodigoDeErro(), tipoErrado.getErros().get(0).getCodigoDeErro());
+
+        assertEquals(2, ilegivel.getTotal());
+        assertEquals(1, ilegivel.getSucessos());
+        assertEquals(1, ilegivel.getErros().get(0).getIndice());
+        assertEquals(TabelaDeErros.ITENS_LOTE_NAO_PROCESSADOS.getCodigoDeErro(),
+                     ilegivel.getErros().get(0).getCodigoDeErro());
+        assertEquals(3, cupomRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve gerar códigos para itens enviados sem código")
+    void testGeneratedCodesInBatch() throws Exception {
+        // Arrange
+        String semCodigo = """
+            {"description":"Campanha","discountValue":5.0,"expirationDate":"%s","published":true}"""
+            .formatted(expirationDate);
+        String corpo = "[" + semCodigo + "," + semCodigo + "," + semCodigo + "]";
+
+        // Act
+        ResultadoLote resultado = cupomLoteService.createCupoms(corpo(corpo));
+
+        // Assert
+        assertEquals(3, resultado.getSucessos());
+        assertEquals(3, cupomRepository.findAll().stream().map(c -> c.getCode()).distinct().count());
+    }
+
+    private String item(String code) {
+        return """
+            {"code":"%s","description":"Campanha","discountValue":5.0,"expirationDate":"%s","published":true}"""
+            .formatted(code, expirationDate);
+    }
+
+    private static ByteArrayInputStream corpo(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+}
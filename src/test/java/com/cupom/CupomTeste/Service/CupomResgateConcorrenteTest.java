@@ -0,0 +1,92 @@
+package com.cupom.CupomTeste.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cupom.CupomTeste.Exception.NegocioException;
+import com.cupom.CupomTeste.Exception.TabelaDeErros;
+import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.model.Cupom;
+import com.cupom.CupomTeste.model.Status.Status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes de resgate concorrente de cupom")
+class CupomResgateConcorrenteTest {
+
+    private static final int TENTATIVAS = 64;
+
+    @Autowired
+    private CupomService cupomService;
+
+    @Autowired
+    private CupomRepository cupomRepository;
+
+    @AfterEach
+    void tearDown() {
+        cupomRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Apenas um resgate paralelo deve vencer")
+    void testExactlyOneWinner() throws Exception {
+        // Arrange
+        Cupom cupom = new Cupom();
+        cupom.setCode("HOT001");
+        cupom.setDescription("Cupom disputado");
+        cupom.setDiscountValue(BigDecimal.valueOf(10.0));
+        cupom.setExpirationDate(LocalDateTime.now().plusDays(30));
+        cupom.setStatus(Status.ACTIVE);
+        Cupom salvo = cupomRepository.save(cupom);
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger vencedores = new AtomicInteger();
+        AtomicInteger conflitos = new AtomicInteger();
+        List<Future<?>> tarefas = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < TENTATIVAS; i++) {
+            tarefas.add(executor.submit(() -> {
+                largada.await();
+                try {
+                    cupomService.redeemCupom(salvo.getId());
+                    vencedores.incrementAndGet();
+                } catch (NegocioException e) {
+                    if (e.getErro() == TabelaDeErros.CUPOM_JA_RESGATADO) {
+                        conflitos.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        largada.countDown();
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(1, vencedores.get());
+        assertEquals(TENTATIVAS - 1, conflitos.get());
+        assertTrue(cupomRepository.findById(salvo.getId()).orElseThrow().isRedeemed());
+    }
+}
@@ -1,20 +1,31 @@
 package com.cupom.CupomTeste.Service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,18 +33,39 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.cupom.CupomTeste.Exception.NegocioException;
 import com.cupom.CupomTeste.Exception.TabelaDeErros;
 import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.Repository.EventoCupomRepository;
+import com.cupom.CupomTeste.cache.CacheCompartilhadoEmMemoria;
+import com.cupom.CupomTeste.cache.CanalDeInvalidacaoLocal;
+import com.cupom.CupomTeste.cache.ConsultasEmAndamento;
+import com.cupom.CupomTeste.cache.CupomCache;
+import com.cupom.CupomTeste.cache.CuponsValidos;
+import com.cupom.CupomTeste.cache.TabelaDeCupons;
 import com.cupom.CupomTeste.mapper.CupomMapper;
 import com.cupom.CupomTeste.model.Cupom;
+import com.cupom.CupomTeste.model.EventoCupom;
 import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.TipoEventoCupom;
+import com.cupom.CupomTeste.model.dto.CupomFiltro;
+import com.cupom.CupomTeste.model.dto.CupomPagina;
+import com.cupom.CupomTeste.model.dto.CupomPatchRequest;
 import com.cupom.CupomTeste.model.dto.CupomRequest;
 import com.cupom.CupomTeste.model.dto.CupomResponse;
+import com.cupom.CupomTeste.model.dto.CupomResumo;
+import com.cupom.CupomTeste.model.dto.ValidacaoCupom;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Testes da classe CupomService")
@@ -42,9 +74,35 @@ class CupomServiceTest {
     @Mock
     private CupomRepository cupomRepository;
 
+    @Mock
+    private EventoCupomRepository eventoCupomRepository;
+
     @Mock
     private CupomMapper mapper;
 
+    @Spy
+    private CupomCache cache = new CupomCache(100, Duration.ofMinutes(5),
+                                              new CacheCompartilhadoEmMemoria(100, Duration.ofMinutes(5)),
+                                              new CanalDeInvalidacaoLocal());
+
+    @Spy
+    private ConsultasEmAndamento consultas = new ConsultasEmAndamento();
+
+    @Mock
+    private ApplicationEventPublisher eventos;
+
+    @Mock
+    private GeradorDeCodigos geradorDeCodigos;
+
+    @Mock
+    private FilaDeDelecao filaDeDelecao;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private CuponsValidos cuponsValidos;
+
     @InjectMocks
     private CupomService cupomService;
 
@@ -78,6 +136,7 @@ class CupomServiceTest {
 
         cupomResponse = new CupomResponse(cupomId, "ABC123", "Cupom de Teste", BigDecimal.valueOf(10.0), 
                                           expirationDate, Status.ACTIVE, true, false);
+        executarTransacao();
     }
 
     @Test
@@ -106,6 +165,30 @@ class CupomServiceTest {
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         assertNotNull(response.getBody());
         verify(cupomRepository, times(1)).save(any(Cupom.class));
+        verify(eventoCupomRepository).save(argThat(evento -> evento.getTipo() == TipoEventoCupom.CRIADO
+                                                           && evento.getCupomId().equals(cupomId)));
+    }
+
+    @Test
+    @DisplayName("Deve usar código do gerador quando o cliente não informar um")
+    void testCreateCupomWithGeneratedCode() {
+        // Arrange
+        Cupom cupomEntrada = new Cupom();
+        cupomEntrada.setDescription("Cupom de Teste");
+        cupomEntrada.setDiscountValue(BigDecimal.valueOf(10.0));
+        cupomEntrada.setExpirationDate(expirationDate);
+
+        when(mapper.toEntity(cupomRequest)).thenReturn(cupomEntrada);
+        when(geradorDeCodigos.gerar()).thenReturn("Xy12Ab");
+        when(cupomRepository.save(any(Cupom.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(mapper.toResponse(any(Cupom.class))).thenReturn(cupomResponse);
+
+        // Act
+        ResponseEntity<CupomResponse> response = cupomService.createCupom(cupomRequest);
+
+        // Assert
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals("Xy12Ab", cupomEntrada.getCode());
     }
 
     @Test
@@ -217,33 +300,136 @@ class CupomServiceTest {
         // Arrange
         List<Cupom> cupoms = List.of(cupom);
         
-        when(cupomRepository.findAll()).thenReturn(cupoms);
+        when(cupomRepository.buscarPagina(any(), any(), any(), any(Pageable.class))).thenReturn(cupoms);
         when(mapper.toResponse(any(Cupom.class))).thenReturn(cupomResponse);
 
         // Act
-        ResponseEntity<List<CupomResponse>> response = cupomService.getAllCupoms();
+        ResponseEntity<CupomPagina<CupomResponse>> response = cupomService.getAllCupoms(new CupomFiltro(), null, 50);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals(1, response.getBody().size());
-        verify(cupomRepository, times(1)).findAll();
+        assertEquals(1, response.getBody().getItens().size());
+        assertNull(response.getBody().getProximoCursor());
+        verify(cupomRepository, times(1)).buscarPagina(any(), any(), any(), any(Pageable.class));
     }
 
     @Test
     @DisplayName("Deve retornar lista vazia quando não houver cupons")
     void testGetAllCupomsEmpty() {
         // Arrange
-        when(cupomRepository.findAll()).thenReturn(List.of());
+        when(cupomRepository.buscarPagina(any(), any(), any(), any(Pageable.class))).thenReturn(List.of());
 
         // Act
-        ResponseEntity<List<CupomResponse>> response = cupomService.getAllCupoms();
+        ResponseEntity<CupomPagina<CupomResponse>> response = cupomService.getAllCupoms(new CupomFiltro(), null, 50);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertTrue(response.getBody().isEmpty());
-        verify(cupomRepository, times(1)).findAll();
+        assertTrue(response.getBody().getItens().isEmpty());
+        verify(cupomRepository, times(1)).buscarPagina(any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Deve devolver cursor para a próxima página quando houver mais itens")
+    void testGetAllCupomsWithNextCursor() {
+        // Arrange
+        Cupom outro = new Cupom();
+        outro.setId(UUID.randomUUID());
+        outro.setExpirationDate(expirationDate.plusDays(1));
+
+        when(cupomRepository.buscarPagina(any(), any(), any(), any(Pageable.class))).thenReturn(List.of(cupom, outro));
+        when(mapper.toResponse(any(Cupom.class))).thenReturn(cupomResponse);
+
+        // Act
+        ResponseEntity<CupomPagina<CupomResponse>> response = cupomService.getAllCupoms(new CupomFiltro(), null, 1);
+
+        // Assert
+        assertEquals(1, response.getBody().getItens().size());
+        CupomCursor cursor = CupomCursor.decodificar(response.getBody().getProximoCursor());
+        assertEquals(cupomId, cursor.getId());
+        assertEquals(expirationDate, cursor.getExpirationDate());
+    }
+
+    @Test
+    @DisplayName("Deve paginar o resumo sem carregar entidades")
+    void testGetCupomSummaries() {
+        // Arrange
+        CupomResumo primeiro = new CupomResumo(cupomId, "ABC123", BigDecimal.TEN, expirationDate, Status.ACTIVE, true, false);
+        CupomResumo segundo = new CupomResumo(UUID.randomUUID(), "XYZ789", BigDecimal.TEN, expirationDate.plusDays(1),
+                                              Status.ACTIVE, true, false);
+        when(cupomRepository.buscarResumos(any(), any(), any(), any(Pageable.class))).thenReturn(List.of(primeiro, segundo));
+
+        // Act
+        ResponseEntity<CupomPagina<CupomResumo>> response = cupomService.getCupomSummaries(new CupomFiltro(), null, 1);
+
+        // Assert
+        assertEquals(List.of(primeiro), response.getBody().getItens());
+        assertEquals(cupomId, CupomCursor.decodificar(response.getBody().getProximoCursor()).getId());
+        verify(cupomRepository, never()).buscarPagina(any(), any(), any(), any(Pageable.class));
+        verify(mapper, never()).toResponse(any(Cupom.class));
+    }
+
+    @Test
+    @DisplayName("Deve montar o resumo por código a partir da resposta em cache")
+    void testGetCupomSummaryByCodeFromCache() {
+        // Arrange
+        CupomResumo resumo = new CupomResumo(cupomId, "ABC123", BigDecimal.TEN, expirationDate, Status.ACTIVE, true, false);
+        cache.armazenarCodigo("ABC123", cupomId);
+        cache.armazenar(cupomId, cupomResponse);
+        when(mapper.toResumo(cupomResponse)).thenReturn(resumo);
+
+        // Act
+        ResponseEntity<CupomResumo> response = cupomService.getCupomSummaryByCode("ABC-123");
+
+        // Assert
+        assertEquals(resumo, response.getBody());
+        verify(cupomRepository, never()).buscarResumoPorCodigo(any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar o resumo por código sem ler a description")
+    void testGetCupomSummaryByCode() {
+        // Arrange
+        CupomResumo resumo = new CupomResumo(cupomId, "ABC123", BigDecimal.TEN, expirationDate, Status.ACTIVE, true, false);
+        when(cupomRepository.buscarResumoPorCodigo("ABC123")).thenReturn(Optional.of(resumo));
+
+        // Act
+        ResponseEntity<CupomResumo> response = cupomService.getCupomSummaryByCode("ABC123");
+
+        // Assert
+        assertEquals(resumo, response.getBody());
+        assertEquals(cupomId, cache.buscarIdPorCodigo("ABC123"));
+        verify(cupomRepository, never()).findByCode(any());
+    }
+
+    @Test
+    @DisplayName("Deve validar código pela tabela em memória sem consultar o repositório")
+    void testValidateCupomCode() {
+        // Arrange
+        when(cuponsValidos.descontoSeValido("ABC123")).thenReturn(1050L);
+        when(cuponsValidos.descontoSeValido("XYZ789")).thenReturn(TabelaDeCupons.INVALIDO);
+
+        // Act
+        ValidacaoCupom valido = cupomService.validateCupomCode("ABC-123").getBody();
+        ValidacaoCupom invalido = cupomService.validateCupomCode("XYZ789").getBody();
+
+        // Assert
+        assertTrue(valido.isValid());
+        assertEquals(new BigDecimal("10.50"), valido.getDiscountValue());
+        assertFalse(invalido.isValid());
+        assertNull(invalido.getDiscountValue());
+        verify(cupomRepository, never()).findByCode(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para cursor inválido")
+    void testGetAllCupomsInvalidCursor() {
+        // Act & Assert
+        NegocioException exception = assertThrows(NegocioException.class,
+            () -> cupomService.getAllCupoms(new CupomFiltro(), "nao-e-um-cursor", 10));
+
+        assertEquals(TabelaDeErros.CURSOR_INVALIDO, exception.getErro());
     }
 
     @Test
@@ -259,7 +445,7 @@ class CupomServiceTest {
         cupomFound.setStatus(Status.ACTIVE);
         cupomFound.setPublished(true);
         
-        when(cupomRepository.findById(cupomId)).thenReturn(Optional.of(cupomFound));
+        when(cupomRepository.buscarCompleto(cupomId)).thenReturn(Optional.of(cupomFound));
         when(mapper.toResponse(cupomFound)).thenReturn(cupomResponse);
 
         // Act
@@ -268,39 +454,214 @@ class CupomServiceTest {
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        verify(cupomRepository, times(1)).findById(cupomId);
+        verify(cupomRepository, times(1)).buscarCompleto(cupomId);
+    }
+
+    @Test
+    @DisplayName("Deve servir cupom do cache sem consultar o repositório novamente")
+    void testGetCupomByIdFromCache() {
+        // Arrange
+        when(cupomRepository.buscarCompleto(cupomId)).thenReturn(Optional.of(cupom));
+        when(mapper.toResponse(cupom)).thenReturn(cupomResponse);
+
+        // Act
+        cupomService.getCupomById(cupomId);
+        ResponseEntity<CupomResponse> response = cupomService.getCupomById(cupomId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(cupomResponse, response.getBody());
+        verify(cupomRepository, times(1)).buscarCompleto(cupomId);
+        verify(mapper, times(1)).toResponse(cupom);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o repositório uma única vez para buscas simultâneas do mesmo cupom fora do cache")
+    void testGetCupomByIdCoalescesConcurrentMisses() throws Exception {
+        // Arrange
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(cupomRepository.buscarCompleto(cupomId)).thenAnswer(invocation -> {
+            liberar.await(5, TimeUnit.SECONDS);
+            return Optional.of(cupom);
+        });
+        when(mapper.toResponse(cupom)).thenReturn(cupomResponse);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // Act
+        List<Future<ResponseEntity<CupomResponse>>> respostas = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            respostas.add(executor.submit(() -> cupomService.getCupomById(cupomId)));
+        }
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (consultas.coalescidas() < 3 && System.nanoTime() < limite) {
+            Thread.sleep(1);
+        }
+        liberar.countDown();
+
+        // Assert
+        for (Future<ResponseEntity<CupomResponse>> resposta : respostas) {
+            assertEquals(cupomResponse, resposta.get(5, TimeUnit.SECONDS).getBody());
+        }
+        executor.shutdown();
+        verify(cupomRepository, times(1)).buscarCompleto(cupomId);
+        assertEquals(3, consultas.coalescidas());
+    }
+
+    @Test
+    @DisplayName("Deve publicar evento de alteração ao deletar cupom")
+    void testDeleteCupomPublishesEvent() {
+        // Arrange
+        when(cupomRepository.deletar(cupomId, Status.DELETED)).thenReturn(1);
+
+        // Act
+        cupomService.deleteCupom(cupomId);
+
+        // Assert
+        verify(eventos, times(1)).publishEvent(any(CupomAlteradoEvent.class));
+        verify(eventoCupomRepository).save(argThat(evento -> evento.getTipo() == TipoEventoCupom.DELETADO
+                                                           && evento.getCupomId().equals(cupomId)));
+    }
+
+    @Test
+    @DisplayName("Deve buscar cupom por código normalizado e reaproveitar o mapeamento em memória")
+    void testGetCupomByCode() {
+        // Arrange
+        when(cupomRepository.findByCode("ABC123")).thenReturn(Optional.of(cupom));
+        when(mapper.toResponse(cupom)).thenReturn(cupomResponse);
+
+        // Act
+        ResponseEntity<CupomResponse> primeira = cupomService.getCupomByCode("ABC-123");
+        ResponseEntity<CupomResponse> segunda = cupomService.getCupomByCode("ABC123");
+
+        // Assert
+        assertEquals(HttpStatus.OK, primeira.getStatusCode());
+        assertEquals(cupomResponse, segunda.getBody());
+        verify(cupomRepository, times(1)).findByCode("ABC123");
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao buscar por código inexistente")
+    void testGetCupomByCodeNotFound() {
+        // Arrange
+        when(cupomRepository.findByCode("XYZ789")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        NegocioException exception = assertThrows(NegocioException.class,
+            () -> cupomService.getCupomByCode("XYZ789"));
+
+        assertEquals(TabelaDeErros.CUPOM_NAO_ENCONTRADO, exception.getErro());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao criar cupom com código já cadastrado")
+    void testCreateCupomWithDuplicatedCode() {
+        // Arrange
+        Cupom cupomEntrada = new Cupom();
+        cupomEntrada.setCode("ABC123");
+        cupomEntrada.setDescription("Cupom de Teste");
+        cupomEntrada.setDiscountValue(BigDecimal.valueOf(10.0));
+        cupomEntrada.setExpirationDate(expirationDate);
+
+        when(mapper.toEntity(cupomRequest)).thenReturn(cupomEntrada);
+        when(cupomRepository.save(any(Cupom.class))).thenThrow(new DataIntegrityViolationException("ux_coupons_code"));
+
+        // Act & Assert
+        NegocioException exception = assertThrows(NegocioException.class,
+            () -> cupomService.createCupom(cupomRequest));
+
+        assertEquals(TabelaDeErros.CODIGO_JA_CADASTRADO, exception.getErro());
+    }
+
+    @Test
+    @DisplayName("Deve trocar o código gerado e tentar de novo quando ele já existe no banco")
+    void testCreateCupomRetriesGeneratedCodeOnDuplicate() {
+        // Arrange
+        Cupom cupomEntrada = new Cupom();
+        cupomEntrada.setDescription("Cupom de Teste");
+        cupomEntrada.setDiscountValue(BigDecimal.valueOf(10.0));
+        cupomEntrada.setExpirationDate(expirationDate);
+
+        when(mapper.toEntity(cupomRequest)).thenReturn(cupomEntrada);
+        when(geradorDeCodigos.gerar()).thenReturn("GER001", "GER002");
+        when(cupomRepository.save(any(Cupom.class)))
+            .thenThrow(new DataIntegrityViolationException("ux_coupons_code"))
+            .thenAnswer(invocation -> {
+                Cupom saved = invocation.getArgument(0);
+                saved.setId(cupomId);
+                return saved;
+            });
+        when(mapper.toResponse(any(Cupom.class))).thenReturn(cupomResponse);
+
+        // Act
+        ResponseEntity<CupomResponse> response = cupomService.createCupom(cupomRequest);
+
+        // Assert
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals("GER002", cupomEntrada.getCode());
+        verify(cupomRepository, times(2)).save(any(Cupom.class));
+    }
+
+    @Test
+    @DisplayName("Deve resgatar cupom com um único update condicional")
+    void testRedeemCupomSuccess() {
+        // Arrange
+        when(cupomRepository.resgatar(any(UUID.class), any(Status.class), any(LocalDateTime.class))).thenReturn(1);
+        when(cupomRepository.buscarCompleto(cupomId)).thenReturn(Optional.of(cupom));
+        when(mapper.toResponse(cupom)).thenReturn(cupomResponse);
+
+        // Act
+        ResponseEntity<CupomResponse> response = cupomService.redeemCupom(cupomId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(cupomRepository, never()).save(any(Cupom.class));
+        verify(eventos, times(1)).publishEvent(any(CupomAlteradoEvent.class));
+        verify(eventoCupomRepository).save(argThat(evento -> evento.getTipo() == TipoEventoCupom.RESGATADO));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao resgatar cupom já resgatado")
+    void testRedeemCupomAlreadyRedeemed() {
+        // Arrange
+        cupom.setRedeemed(true);
+        when(cupomRepository.resgatar(any(UUID.class), any(Status.class), any(LocalDateTime.class))).thenReturn(0);
+        when(cupomRepository.findById(cupomId)).thenReturn(Optional.of(cupom));
+
+        // Act & Assert
+        NegocioException exception = assertThrows(NegocioException.class,
+            () -> cupomService.redeemCupom(cupomId));
+
+        assertEquals(TabelaDeErros.CUPOM_JA_RESGATADO, exception.getErro());
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao buscar cupom inexistente")
     void testGetCupomByIdNotFound() {
         // Arrange
-        when(cupomRepository.findById(cupomId)).thenReturn(Optional.empty());
+        when(cupomRepository.buscarCompleto(cupomId)).thenReturn(Optional.empty());
 
         // Act & Assert
         NegocioException exception = assertThrows(NegocioException.class, 
             () -> cupomService.getCupomById(cupomId));
         
         assertEquals(TabelaDeErros.CUPOM_NAO_ENCONTRADO, exception.getErro());
-        verify(cupomRepository, times(1)).findById(cupomId);
+        verify(cupomRepository, times(1)).buscarCompleto(cupomId);
     }
 
     @Test
     @DisplayName("Deve deletar cupom com sucesso")
     void testDeleteCupomSuccess() {
         // Arrange
-        cupom.setStatus(Status.ACTIVE);
-        when(cupomRepository.findById(cupomId)).thenReturn(Optional.of(cupom));
-        when(cupomRepository.save(any(Cupom.class))).thenReturn(cupom);
+        when(cupomRepository.deletar(cupomId, Status.DELETED)).thenReturn(1);
 
         // Act
         ResponseEntity<Void> response = cupomService.deleteCupom(cupomId);
 
         // Assert
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
-        assertEquals(Status.DELETED, cupom.getStatus());
-        verify(cupomRepository, times(1)).findById(cupomId);
-        verify(cupomRepository, times(1)).save(cupom);
+        verify(cupomRepository, times(1)).deletar(cupomId, Status.DELETED);
+        verify(cupomRepository, never()).findById(cupomId);
+        verify(cupomRepository, never()).save(any(Cupom.class));
     }
 
     @Test
@@ -320,6 +681,50 @@ class CupomServiceTest {
         
         assertEquals(TabelaDeErros.CUPOM_JA_DELETADO, exception.getErro());
         verify(cupomRepository, never()).save(any(Cupom.class));
+        verify(eventoCupomRepository, never()).save(any(EventoCupom.class));
+    }
+
+    @Test
+    @DisplayName("Não deve resgatar cupom pendente na fila de deleção")
+    void testRedeemCupomPendingInQueue() {
+        // Arrange
+        when(filaDeDelecao.pendente(cupomId)).thenReturn(true);
+
+        // Act & Assert
+        NegocioException exception = assertThrows(NegocioException.class,
+            () -> cupomService.redeemCupom(cupomId));
+
+        assertEquals(TabelaDeErros.CUPOM_JA_DELETADO, exception.getErro());
+        verify(cupomRepository, never()).resgatar(any(UUID.class), any(Status.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Deve exibir como deletado um cupom pendente na fila de deleção sem alterar o cache")
+    void testGetCupomPendingInQueueShowsDeleted() {
+        // Arrange
+        cache.armazenar(cupomId, cupomResponse);
+        when(filaDeDelecao.pendente(cupomId)).thenReturn(true);
+
+        // Act
+        ResponseEntity<CupomResponse> response = cupomService.getCupomById(cupomId);
+
+        // Assert
+        assertEquals(Status.DELETED, response.getBody().getStatus());
+        assertEquals(Status.ACTIVE, cache.buscar(cupomId).getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve tratar como já deletado um cupom pendente na fila de deleção")
+    void testDeleteCupomPendingInQueue() {
+        // Arrange
+        when(filaDeDelecao.pendente(cupomId)).thenReturn(true);
+
+        // Act & Assert
+        NegocioException exception = assertThrows(NegocioException.class,
+            () -> cupomService.deleteCupom(cupomId));
+
+        assertEquals(TabelaDeErros.CUPOM_JA_DELETADO, exception.getErro());
+        verify(cupomRepository, never()).deletar(any(UUID.class), any(Status.class));
     }
 
     @Test
@@ -336,6 +741,136 @@ class CupomServiceTest {
         verify(cupomRepository, never()).save(any(Cupom.class));
     }
 
+    @Test
+    @DisplayName("Deve alterar só os campos informados no PATCH")
+    void testPatchCupomChangesOnlyGivenFields() {
+        // Arrange
+        when(cupomRepository.findById(cupomId)).thenReturn(Optional.of(cupom));
+        when(mapper.toResponse(cupom)).thenReturn(cupomResponse);
+        CupomPatchRequest alteracoes = new CupomPatchRequest();
+        alteracoes.setPublished(false);
+        alteracoes.setDiscountValue(BigDecimal.valueOf(15));
+
+        // Act
+        ResponseEntity<CupomResponse> response = cupomService.patchCupom(cupomId, alteracoes);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertFalse(cupom.isPublished());
+        assertEquals(0, BigDecimal.valueOf(15).compareTo(cupom.getDiscountValue()));
+        assertEquals("Cupom de Teste", cupom.getDescription());
+        assertEquals(expirationDate, cupom.getExpirationDate());
+        verify(cupomRepository, never()).save(any(Cupom.class));
+        verify(eventos, times(1)).publishEvent(any(CupomAlteradoEvent.class));
+    }
+
+    @Test
+    @DisplayName("Deve reativar cupom expirado quando o PATCH estende a data de expiração")
+    void testPatchCupomReactivatesExpired() {
+        // Arrange
+        cupom.setStatus(Status.EXPIRED);
+        when(cupomRepository.findById(cupomId)).thenReturn(Optional.of(cupom));
+        CupomPatchRequest alteracoes = new CupomPatchRequest();
+        alteracoes.setExpirationDate(expirationDate.plusDays(10));
+
+        // Act
+        cupomService.patchCupom(cupomId, alteracoes);
+
+        // Assert
+        assertEquals(Status.ACTIVE, cupom.getStatus());
+        assertEquals(expirationDate.plusDays(10), cupom.getExpirationDate());
+    }
+
+    @Test
+    @DisplayName("PATCH sem mudança efetiva não deve gerar evento")
+    void testPatchCupomWithoutChangesSkipsEvents() {
+        // Arrange
+        when(cupomRepository.findById(cupomId)).thenReturn(Optional.of(cupom));
+        CupomPatchRequest alteracoes = new CupomPatchRequest();
+        alteracoes.setPublished(cupom.isPublished());
+        alteracoes.setDiscountValue(new BigDecimal("10.00"));
+        alteracoes.setDescription(cupom.getDescription());
+
+        // Act
+        cupomService.patchCupom(cupomId, alteracoes);
+
+        // Assert
+        verify(eventoCupomRepository, never()).save(any(EventoCupom.class));
+        verify(eventos, never()).publishEvent(any(CupomAlteradoEvent.class));
+    }
+
+    @Test
+    @DisplayName("Deve refazer o PATCH sobre o estado novo quando a versão mudou, e recusar se o cupom foi deletado")
+    void testPatchCupomRetriesAfterConcurrentWrite() {
+        // Arrange
+        Cupom deletado = new Cupom();
+        deletado.setStatus(Status.DELETED);
+        when(cupomRepository.findById(cupomId)).thenReturn(Optional.of(cupom), Optional.of(deletado));
+        when(transactionTemplate.execute(any(TransactionCallback.class)))
+            .thenAnswer(invocation -> {
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null);
+                throw new ObjectOptimisticLockingFailureException(Cupom.class, cupomId);
+            })
+            .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        CupomPatchRequest alteracoes = new CupomPatchRequest();
+        alteracoes.setExpirationDate(expirationDate.plusDays(10));
+
+        // Act & Assert
+        NegocioException exception = assertThrows(NegocioException.class,
+            () -> cupomService.patchCupom(cupomId, alteracoes));
+
+        assertEquals(TabelaDeErros.CUPOM_JA_DELETADO, exception.getErro());
+        verify(transactionTemplate, times(2)).execute(any(TransactionCallback.class));
+    }
+
+    @Test
+    @DisplayName("Deve recusar o PATCH com 409 quando a versão continua mudando")
+    void testPatchCupomGivesUpAfterRepeatedConflicts() {
+        // Arrange
+        when(transactionTemplate.execute(any(TransactionCallback.class)))
+            .thenThrow(new ObjectOptimisticLockingFailureException(Cupom.class, cupomId));
+        CupomPatchRequest alteracoes = new CupomPatchRequest();
+        alteracoes.setPublished(true);
+
+        // Act & Assert
+        NegocioException exception = assertThrows(NegocioException.class,
+            () -> cupomService.patchCupom(cupomId, alteracoes));
+
+        assertEquals(TabelaDeErros.ALTERACAO_CONCORRENTE, exception.getErro());
+        verify(transactionTemplate, times(3)).execute(any(TransactionCallback.class));
+    }
+
+    @Test
+    @DisplayName("Deve validar o novo desconto no PATCH")
+    void testPatchCupomInvalidDiscount() {
+        // Arrange
+        when(cupomRepository.findById(cupomId)).thenReturn(Optional.of(cupom));
+        CupomPatchRequest alteracoes = new CupomPatchRequest();
+        alteracoes.setDiscountValue(BigDecimal.valueOf(0.1));
+
+        // Act & Assert
+        NegocioException exception = assertThrows(NegocioException.class,
+            () -> cupomService.patchCupom(cupomId, alteracoes));
+
+        assertEquals(TabelaDeErros.VALOR_DESCONTO_INVALIDO, exception.getErro());
+        assertEquals(0, BigDecimal.valueOf(10.0).compareTo(cupom.getDiscountValue()));
+    }
+
+    @Test
+    @DisplayName("Deve recusar PATCH de cupom deletado")
+    void testPatchCupomDeleted() {
+        // Arrange
+        cupom.setStatus(Status.DELETED);
+        when(cupomRepository.findById(cupomId)).thenReturn(Optional.of(cupom));
+
+        // Act & Assert
+        NegocioException exception = assertThrows(NegocioException.class,
+            () -> cupomService.patchCupom(cupomId, new CupomPatchRequest()));
+
+        assertEquals(TabelaDeErros.CUPOM_JA_DELETADO, exception.getErro());
+        verify(eventos, never()).publishEvent(any(CupomAlteradoEvent.class));
+    }
+
     @Test
     @DisplayName("Deve aceitar cupom com valor de desconto exatamente 0.5")
     void testCreateCupomWithMinimumValidDiscountValue() {
@@ -389,4 +924,10 @@ class CupomServiceTest {
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         verify(cupomRepository, times(1)).save(any(Cupom.class));
     }
-}
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    private void executarTransacao() {
+        lenient().when(transactionTemplate.execute(any(TransactionCallback.class)))
+            .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
+}
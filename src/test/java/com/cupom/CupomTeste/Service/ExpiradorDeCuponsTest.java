@@ -0,0 +1,84 @@
+package com.cupom.CupomTeste.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.model.Cupom;
+import com.cupom.CupomTeste.model.Status.Status;
+
+@SpringBootTest(properties = "cupom.expiracao.tamanho-lote=2")
+@ActiveProfiles("test")
+@DisplayName("Testes da classe ExpiradorDeCupons")
+class ExpiradorDeCuponsTest {
+
+    @Autowired
+    private ExpiradorDeCupons expiradorDeCupons;
+
+    @Autowired
+    private CupomRepository cupomRepository;
+
+    private final LocalDateTime agora = LocalDateTime.now(ZoneOffset.UTC);
+
+    @AfterEach
+    void tearDown() {
+        cupomRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Deve expirar em vários lotes apenas os cupons ativos vencidos")
+    void testExpireOnlyActiveAndOverdue() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            salvar("VENC0" + i, agora.minusDays(5 - i), Status.ACTIVE);
+        }
+        Cupom deletado = salvar("DEL001", agora.minusDays(1), Status.DELETED);
+        Cupom vigente = salvar("VIG001", agora.plusDays(1), Status.ACTIVE);
+
+        // Act
+        int expirados = expiradorDeCupons.expirar();
+
+        // Assert
+        assertEquals(5, expirados);
+        assertEquals(5, cupomRepository.findAll().stream().filter(c -> c.getStatus() == Status.EXPIRED).count());
+        assertEquals(Status.DELETED, cupomRepository.findById(deletado.getId()).orElseThrow().getStatus());
+        assertEquals(Status.ACTIVE, cupomRepository.findById(vigente.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("A passada seguinte deve processar só os cupons vencidos depois da marca d'água")
+    void testNextPassResumesFromWatermark() {
+        // Arrange
+        salvar("ANT001", agora.minusDays(2), Status.ACTIVE);
+        expiradorDeCupons.expirar();
+        salvar("NOV001", agora.minusSeconds(1), Status.ACTIVE);
+
+        // Act
+        int expirados = expiradorDeCupons.expirar();
+
+        // Assert
+        assertEquals(1, expirados);
+        assertEquals(Status.EXPIRED, cupomRepository.findByCode("NOV001").orElseThrow().getStatus());
+        assertEquals(0, expiradorDeCupons.expirar());
+    }
+
+    private Cupom salvar(String code, LocalDateTime expirationDate, Status status) {
+        Cupom cupom = new Cupom();
+        cupom.setCode(code);
+        cupom.setDescription("Cupom de teste");
+        cupom.setDiscountValue(BigDecimal.valueOf(10.0));
+        cupom.setExpirationDate(expirationDate);
+        cupom.setStatus(status);
+        return cupomRepository.save(cupom);
+    }
+}
@@ -0,0 +1,198 @@
+package com.cupom.CupomTeste.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cupom.CupomTeste.Exception.NegocioException;
+import com.cupom.CupomTeste.Exception.TabelaDeErros;
+import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.Repository.EventoCupomRepository;
+import com.cupom.CupomTeste.model.Cupom;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.TipoEventoCupom;
+import com.cupom.CupomTeste.model.dto.CupomFiltro;
+import com.cupom.CupomTeste.model.dto.CupomRequest;
+import com.cupom.CupomTeste.model.dto.CupomResponse;
+import com.cupom.CupomTeste.model.dto.ResultadoLote;
+
+@SpringBootTest(properties = "cupom.delecao.tamanho-lote=50")
+@ActiveProfiles("test")
+@DisplayName("Testes da classe FilaDeDelecao")
+class FilaDeDelecaoTest {
+
+    @Autowired
+    private CupomLoteService cupomLoteService;
+
+    @Autowired
+    private CupomService cupomService;
+
+    @Autowired
+    private FilaDeDelecao filaDeDelecao;
+
+    @Autowired
+    private CupomRepository cupomRepository;
+
+    @Autowired
+    private EventoCupomRepository eventoCupomRepository;
+
+    @AfterEach
+    void tearDown() {
+        filaDeDelecao.descarregar();
+        cupomRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Deve gravar as deleções só na descarga, recusando ids inexistentes e já deletados")
+    void testWriteBehindDelete() {
+        // Arrange
+        UUID ativo = salvar("DEL001", Status.ACTIVE);
+        UUID deletado = salvar("DEL002", Status.DELETED);
+        UUID inexistente = UUID.randomUUID();
+
+        // Act
+        ResultadoLote resultado = cupomLoteService.deleteCupoms(Arrays.asList(ativo, deletado, inexistente, ativo, null));
+
+        // Assert
+        assertEquals(1, resultado.getSucessos());
+        assertEquals(List.of(1, 2, 3, 4), resultado.getErros().stream().map(e -> e.getIndice()).toList());
+        assertEquals(TabelaDeErros.CUPOM_JA_DELETADO.getCodigoDeErro(), resultado.getErros().get(0).getCodigoDeErro());
+        assertEquals(TabelaDeErros.CUPOM_NAO_ENCONTRADO.getCodigoDeErro(), resultado.getErros().get(1).getCodigoDeErro());
+        assertEquals(TabelaDeErros.CUPOM_JA_DELETADO.getCodigoDeErro(), resultado.getErros().get(2).getCodigoDeErro());
+        assertEquals(Status.ACTIVE, cupomRepository.findById(ativo).orElseThrow().getStatus());
+
+        NegocioException exception = assertThrows(NegocioException.class, () -> cupomService.deleteCupom(ativo));
+        assertEquals(TabelaDeErros.CUPOM_JA_DELETADO, exception.getErro());
+
+        assertEquals(1, filaDeDelecao.descarregar());
+        assertEquals(Status.DELETED, cupomRepository.findById(ativo).orElseThrow().getStatus());
+        assertEquals(0, filaDeDelecao.quantidadePendentes());
+    }
+
+    @Test
+    @DisplayName("Cupom enfileirado para deleção não deve ser resgatado e deve aparecer como deletado")
+    void testPendingDeleteBlocksRedeem() {
+        // Arrange
+        UUID ativo = salvar("DEL003", Status.ACTIVE);
+        cupomLoteService.deleteCupoms(List.of(ativo));
+
+        // Act
+        NegocioException exception = assertThrows(NegocioException.class, () -> cupomService.redeemCupom(ativo));
+
+        // Assert
+        assertEquals(TabelaDeErros.CUPOM_JA_DELETADO, exception.getErro());
+        assertFalse(cupomRepository.findById(ativo).orElseThrow().isRedeemed());
+        assertEquals(Status.DELETED, cupomService.getCupomById(ativo).getBody().getStatus());
+        assertEquals(Status.DELETED, cupomService.getCupomByCode("DEL003").getBody().getStatus());
+    }
+
+    @Test
+    @DisplayName("Cupom enfileirado deve aparecer como deletado no resumo, na validação, na listagem e no stream")
+    void testPendingDeleteOnEveryReadRoute() throws Exception {
+        // Arrange
+        CupomRequest request = new CupomRequest();
+        request.setCode("DEL006");
+        request.setDiscountValue(BigDecimal.valueOf(10.0));
+        request.setExpirationDate(LocalDateTime.now().plusDays(30));
+        request.setPublished(true);
+        UUID id = cupomService.createCupom(request).getBody().getId();
+        assertTrue(cupomService.validateCupomCode("DEL006").getBody().isValid());
+
+        // Act
+        cupomLoteService.deleteCupoms(List.of(id));
+
+        // Assert
+        assertEquals(Status.DELETED, cupomService.getCupomSummaryByCode("DEL006").getBody().getStatus());
+        assertFalse(cupomService.validateCupomCode("DEL006").getBody().isValid());
+        List<CupomResponse> todos = cupomService.getAllCupoms(new CupomFiltro(), null, 10).getBody().getItens();
+        assertEquals(List.of(Status.DELETED), todos.stream().map(CupomResponse::getStatus).toList());
+        assertTrue(cupomService.getAllCupoms(new CupomFiltro(Status.ACTIVE, null, null), null, 10)
+                               .getBody().getItens().isEmpty());
+        assertTrue(cupomService.getCupomSummaries(new CupomFiltro(Status.ACTIVE, null, null), null, 10)
+                               .getBody().getItens().isEmpty());
+        ByteArrayOutputStream linhas = new ByteArrayOutputStream();
+        cupomService.streamCupoms(new CupomFiltro()).writeTo(linhas);
+        assertTrue(linhas.toString().contains("\"status\":\"DELETED\""));
+        assertEquals(Status.ACTIVE, cupomRepository.findById(id).orElseThrow().getStatus());
+
+        assertEquals(1, cupomService.getAllCupoms(new CupomFiltro(Status.DELETED, null, null), null, 10)
+                                    .getBody().getItens().size());
+        assertEquals(0, filaDeDelecao.quantidadePendentes());
+    }
+
+    @Test
+    @DisplayName("Id deletado por outro caminho antes da descarga não deve gerar um segundo DELETADO")
+    void testFlushSkipsEventForAlreadyDeleted() {
+        // Arrange
+        UUID ativo = salvar("DEL004", Status.ACTIVE);
+        UUID concorrente = salvar("DEL005", Status.ACTIVE);
+        cupomLoteService.deleteCupoms(List.of(ativo, concorrente));
+        cupomRepository.deletar(concorrente, Status.DELETED);
+
+        // Act
+        int deletados = filaDeDelecao.descarregar();
+
+        // Assert
+        assertEquals(1, deletados);
+        assertEquals(1, contarDeletados(ativo));
+        assertEquals(0, contarDeletados(concorrente));
+    }
+
+    @Test
+    @DisplayName("Deve descarregar sozinha quando o bloco enche")
+    void testFlushWhenBatchIsFull() {
+        // Arrange
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            ids.add(salvar("F%05d".formatted(i), Status.ACTIVE));
+        }
+
+        // Act
+        ResultadoLote resultado = cupomLoteService.deleteCupoms(ids);
+
+        // Assert
+        assertEquals(120, resultado.getSucessos());
+        assertEquals(20, filaDeDelecao.quantidadePendentes());
+        assertEquals(100, cupomRepository.findAll().stream().filter(c -> c.getStatus() == Status.DELETED).count());
+    }
+
+    @Test
+    @DisplayName("Deve recusar lista vazia de ids")
+    void testEmptyList() {
+        // Act & Assert
+        NegocioException exception = assertThrows(NegocioException.class, () -> cupomLoteService.deleteCupoms(List.of()));
+        assertEquals(TabelaDeErros.QUANTIDADE_IDS_INVALIDA, exception.getErro());
+    }
+
+    private UUID salvar(String code, Status status) {
+        Cupom cupom = new Cupom();
+        cupom.setCode(code);
+        cupom.setDescription("Cupom de teste");
+        cupom.setDiscountValue(BigDecimal.valueOf(10.0));
+        cupom.setExpirationDate(LocalDateTime.now().plusDays(30));
+        cupom.setStatus(status);
+        return cupomRepository.save(cupom).getId();
+    }
+
+    private long contarDeletados(UUID id) {
+        return eventoCupomRepository.findAll().stream()
+                .filter(e -> e.getCupomId().equals(id) && e.getTipo() == TipoEventoCupom.DELETADO)
+                .count();
+    }
+}
@@ -0,0 +1,193 @@
+package com.cupom.CupomTeste.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cupom.CupomTeste.Repository.CodigoReservadoRepository;
+import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.model.CodigoReservado;
+
+import jakarta.persistence.EntityManager;
+
+@DisplayName("Testes da classe GeradorDeCodigos")
+class GeradorDeCodigosTest {
+
+    private GeradorDeCodigos gerador;
+
+    @BeforeEach
+    void setUp() {
+        gerador = new GeradorDeCodigos(500_000, 0.001);
+    }
+
+    @Test
+    @DisplayName("Deve gerar códigos de 6 caracteres alfanuméricos")
+    void testGeneratedCodeFormat() {
+        // Act
+        String code = gerador.gerar();
+
+        // Assert
+        assertEquals(6, code.length());
+        assertTrue(code.chars().allMatch(Character::isLetterOrDigit));
+        assertSame(code, ValidadorDeCupom.normalizarCodigo(code));
+    }
+
+    @Test
+    @DisplayName("Não deve reservar de novo um código já registrado")
+    void testRegisteredCodeIsOccupied() {
+        // Act
+        gerador.registrar("ABC123");
+
+        // Assert
+        assertFalse(gerador.reservar(GeradorDeCodigos.paraValor("ABC123")));
+        assertTrue(gerador.reservar(GeradorDeCodigos.paraValor("ABC124")));
+    }
+
+    @Test
+    @DisplayName("Threads concorrentes nunca recebem o mesmo código")
+    void testConcurrentGenerationIsUnique() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        Set<String> codigos = ConcurrentHashMap.newKeySet();
+        List<Future<?>> tarefas = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            tarefas.add(executor.submit(() -> codigos.addAll(gerador.gerar(25_000))));
+        }
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(200_000, codigos.size());
+        assertEquals(200_000, gerador.quantidadeOcupados());
+    }
+
+    @Test
+    @DisplayName("Deve dimensionar o filtro pela quantidade de cupons já gravados")
+    void testSizedFromRowCount() {
+        // Arrange
+        CupomRepository repositorio = repositorioCom(5_000, "ABC123");
+        GeradorDeCodigos pequeno = new GeradorDeCodigos(100, 0.001);
+        injetar(pequeno, repositorio);
+
+        // Act
+        pequeno.carregarCodigosExistentes();
+
+        // Assert
+        assertEquals(10_000, pequeno.capacidade());
+        assertFalse(pequeno.reservar(GeradorDeCodigos.paraValor("ABC123")));
+    }
+
+    @Test
+    @DisplayName("Deve recriar o filtro com o dobro da capacidade quando ele enche")
+    void testGrowsWhenFull() throws InterruptedException {
+        // Arrange
+        CupomRepository repositorio = repositorioCom(0);
+        GeradorDeCodigos pequeno = new GeradorDeCodigos(100, 0.001);
+        injetar(pequeno, repositorio);
+        pequeno.carregarCodigosExistentes();
+
+        // Act
+        pequeno.gerar(150);
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pequeno.capacidade() == 100 && System.nanoTime() < limite) {
+            Thread.sleep(1);
+        }
+
+        // Assert
+        assertEquals(200, pequeno.capacidade());
+        verify(repositorio, times(2)).streamCodigos();
+    }
+
+    @Test
+    @DisplayName("Deve manter ocupados na reconstrução os códigos emitidos em lote e ainda reservados")
+    void testReservedCodesSurviveRebuild() {
+        // Arrange
+        CupomRepository repositorio = repositorioCom(0);
+        CodigoReservadoRepository reservas = reservasCom(2, "RES001", "RES002");
+        GeradorDeCodigos pequeno = new GeradorDeCodigos(100, 0.001);
+        injetar(pequeno, repositorio, reservas);
+
+        // Act
+        pequeno.carregarCodigosExistentes();
+
+        // Assert
+        assertFalse(pequeno.reservar(GeradorDeCodigos.paraValor("RES001")));
+        assertFalse(pequeno.reservar(GeradorDeCodigos.paraValor("RES002")));
+        verify(reservas).removerVencidas(any());
+    }
+
+    @Test
+    @DisplayName("Deve gravar a reserva dos códigos emitidos e trocar o lote quando um deles já virou cupom")
+    void testIssuedCodesArePersisted() {
+        // Arrange
+        CupomRepository repositorio = repositorioCom(0);
+        when(repositorio.buscarCodigos(anyCollection())).thenReturn(List.of("OUTRA1"), List.of());
+        EntityManager entityManager = mock(EntityManager.class);
+        injetar(gerador, repositorio, reservasCom(0));
+        ReflectionTestUtils.setField(gerador, "entityManager", entityManager);
+
+        // Act
+        List<String> codigos = gerador.emitir(3);
+
+        // Assert
+        assertEquals(3, codigos.size());
+        verify(repositorio, times(2)).buscarCodigos(anyCollection());
+        verify(entityManager, times(3)).persist(any(CodigoReservado.class));
+    }
+
+    private static CupomRepository repositorioCom(long linhas, String... codigos) {
+        CupomRepository repositorio = mock(CupomRepository.class);
+        when(repositorio.count()).thenReturn(linhas);
+        when(repositorio.streamCodigos()).thenAnswer(invocation -> Stream.of(codigos));
+        return repositorio;
+    }
+
+    private static CodigoReservadoRepository reservasCom(long linhas, String... codigos) {
+        CodigoReservadoRepository reservas = mock(CodigoReservadoRepository.class);
+        when(reservas.count()).thenReturn(linhas);
+        when(reservas.streamCodigos()).thenAnswer(invocation -> Stream.of(codigos));
+        return reservas;
+    }
+
+    private static void injetar(GeradorDeCodigos gerador, CupomRepository repositorio) {
+        injetar(gerador, repositorio, reservasCom(0));
+    }
+
+    private static void injetar(GeradorDeCodigos gerador, CupomRepository repositorio,
+                                CodigoReservadoRepository reservas) {
+        ReflectionTestUtils.setField(gerador, "cupomRepository", repositorio);
+        ReflectionTestUtils.setField(gerador, "codigoReservadoRepository", reservas);
+        ReflectionTestUtils.setField(gerador, "validadeReserva", Duration.ofDays(30));
+        ReflectionTestUtils.setField(gerador, "transactionTemplate",
+                                     new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+}
@@ -0,0 +1,173 @@
+package com.cupom.CupomTeste.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cupom.CupomTeste.Exception.NegocioException;
+import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.Repository.EventoCupomRepository;
+import com.cupom.CupomTeste.eventos.DestinoDeEventosEmMemoria;
+import com.cupom.CupomTeste.model.EventoCupom;
+import com.cupom.CupomTeste.model.TipoEventoCupom;
+import com.cupom.CupomTeste.model.dto.CupomPatchRequest;
+import com.cupom.CupomTeste.model.dto.CupomRequest;
+
+@SpringBootTest(properties = "cupom.outbox.tamanho-lote=2")
+@ActiveProfiles("test")
+@DisplayName("Testes da classe RetransmissorDeEventos")
+class RetransmissorDeEventosTest {
+
+    @Autowired
+    private RetransmissorDeEventos retransmissor;
+
+    @Autowired
+    private CupomService cupomService;
+
+    @Autowired
+    private CupomRepository cupomRepository;
+
+    @Autowired
+    private EventoCupomRepository eventoCupomRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @SpyBean
+    private DestinoDeEventosEmMemoria destino;
+
+    @BeforeEach
+    void setUp() {
+        // Outras classes de teste dividem o mesmo banco e deixam eventos na caixa de saída
+        eventoCupomRepository.deleteAllInBatch();
+        destino.limpar();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cupomRepository.deleteAllInBatch();
+        eventoCupomRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Deve entregar em lotes e na ordem os eventos de criação, alteração, resgate e deleção")
+    void testDeliverInOrder() {
+        // Arrange
+        UUID id = criar("EVT001");
+        CupomPatchRequest alteracoes = new CupomPatchRequest();
+        alteracoes.setPublished(false);
+        cupomService.patchCupom(id, alteracoes);
+        cupomService.redeemCupom(id);
+        cupomService.deleteCupom(id);
+
+        // Act
+        int entregues = retransmissor.retransmitir();
+
+        // Assert
+        assertEquals(4, entregues);
+        List<EventoCupom> eventos = destino.entregues();
+        assertEquals(List.of(TipoEventoCupom.CRIADO, TipoEventoCupom.ALTERADO, TipoEventoCupom.RESGATADO,
+                             TipoEventoCupom.DELETADO),
+                     eventos.stream().map(EventoCupom::getTipo).toList());
+        assertTrue(eventos.stream().allMatch(evento -> evento.getCupomId().equals(id)));
+        assertEquals(0, eventoCupomRepository.count());
+    }
+
+    @Test
+    @DisplayName("Não deve gravar evento quando a alteração é recusada")
+    void testNoEventWhenMutationFails() {
+        // Arrange
+        UUID id = criar("EVT002");
+        cupomService.deleteCupom(id);
+
+        // Act
+        assertThrows(NegocioException.class, () -> cupomService.deleteCupom(id));
+        assertThrows(NegocioException.class, () -> cupomService.redeemCupom(id));
+        assertThrows(NegocioException.class, () -> criar("EVT002"));
+
+        // Assert
+        assertEquals(2, eventoCupomRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve manter os eventos na caixa de saída quando o destino falha e reenviá-los depois")
+    void testRetryAfterFailure() throws IOException {
+        // Arrange
+        criar("EVT003");
+        doThrow(new IOException("destino fora do ar")).when(destino).publicar(anyList());
+
+        // Act
+        int naFalha = retransmissor.retransmitir();
+        reset(destino);
+        int depois = retransmissor.retransmitir();
+
+        // Assert
+        assertEquals(0, naFalha);
+        assertEquals(1, depois);
+        assertEquals(1, destino.entregues().size());
+        assertEquals(0, eventoCupomRepository.count());
+    }
+
+    @Test
+    @DisplayName("Não deve entregar enquanto outra réplica segura a trava da caixa de saída")
+    void testSkipWhileAnotherReplicaHoldsTheLock() throws Exception {
+        // Arrange
+        criar("EVT004");
+        CountDownLatch travado = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CompletableFuture<Void> outraReplica = CompletableFuture.runAsync(
+            () -> transactionTemplate.executeWithoutResult(transacao -> {
+                eventoCupomRepository.travarRetransmissao();
+                travado.countDown();
+                try {
+                    liberar.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        assertTrue(travado.await(10, TimeUnit.SECONDS));
+
+        // Act
+        int travada = retransmissor.retransmitir();
+        liberar.countDown();
+        outraReplica.get(10, TimeUnit.SECONDS);
+        int liberada = retransmissor.retransmitir();
+
+        // Assert
+        assertEquals(0, travada);
+        assertEquals(1, liberada);
+        assertEquals(1, destino.entregues().size());
+    }
+
+    private UUID criar(String code) {
+        CupomRequest request = new CupomRequest();
+        request.setCode(code);
+        request.setDescription("Cupom de teste");
+        request.setDiscountValue(BigDecimal.valueOf(10.0));
+        request.setExpirationDate(LocalDateTime.now().plusDays(30));
+        request.setPublished(true);
+        return cupomService.createCupom(request).getBody().getId();
+    }
+}
@@ -0,0 +1,78 @@
+package com.cupom.CupomTeste.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.cupom.CupomTeste.Exception.NegocioException;
+import com.cupom.CupomTeste.Exception.TabelaDeErros;
+import com.cupom.CupomTeste.model.Cupom;
+
+@DisplayName("Testes da classe ValidadorDeCupom")
+class ValidadorDeCupomTest {
+
+    @Test
+    @DisplayName("Deve devolver a mesma instância quando o código já vem limpo")
+    void testCleanCodeIsNotCopied() {
+        // Arrange
+        String code = "ABC123";
+
+        // Act
+        String normalizado = ValidadorDeCupom.normalizarCodigo(code);
+
+        // Assert
+        assertSame(code, normalizado);
+    }
+
+    @Test
+    @DisplayName("Deve remover separadores e caracteres especiais do código")
+    void testSeparatorsAreRemoved() {
+        // Act & Assert
+        assertEquals("ABC123", ValidadorDeCupom.normalizarCodigo("A-B.C 1_2/3"));
+        assertEquals("ABC123", ValidadorDeCupom.normalizarCodigo("A#B@C1$2%3"));
+        assertEquals("ABC123", ValidadorDeCupom.normalizarCodigo("çAãBC1é23"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar código nulo ou sem 6 caracteres válidos")
+    void testInvalidCodeLength() {
+        // Act & Assert
+        for (String code : new String[] { null, "", "ABC12", "ABC1234", "ÁBC123", "--AB--" }) {
+            NegocioException exception = assertThrows(NegocioException.class,
+                    () -> ValidadorDeCupom.normalizarCodigo(code));
+            assertEquals(TabelaDeErros.CODIGO_INVALIDO, exception.getErro());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve validar desconto mínimo e data de expiração")
+    void testDiscountAndExpiration() {
+        // Arrange
+        Cupom cupom = new Cupom();
+        cupom.setCode("ABC-123");
+        cupom.setDiscountValue(new BigDecimal("0.50"));
+        cupom.setExpirationDate(LocalDateTime.now(ZoneOffset.UTC).plusMinutes(1));
+
+        // Act
+        ValidadorDeCupom.validar(cupom);
+
+        // Assert
+        assertEquals("ABC123", cupom.getCode());
+
+        cupom.setDiscountValue(new BigDecimal("0.49"));
+        assertEquals(TabelaDeErros.VALOR_DESCONTO_INVALIDO,
+                assertThrows(NegocioException.class, () -> ValidadorDeCupom.validar(cupom)).getErro());
+
+        cupom.setDiscountValue(BigDecimal.ONE);
+        cupom.setExpirationDate(LocalDateTime.now(ZoneOffset.UTC).minusSeconds(1));
+        assertEquals(TabelaDeErros.DATA_EXPIRACAO_INVALIDA,
+                assertThrows(NegocioException.class, () -> ValidadorDeCupom.validar(cupom)).getErro());
+    }
+}
@@ -0,0 +1,150 @@
+package com.cupom.CupomTeste.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.cupom.CupomTeste.Exception.NegocioException;
+import com.cupom.CupomTeste.Exception.TabelaDeErros;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.dto.CupomResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Testes da classe ConsultasEmAndamento")
+class ConsultasEmAndamentoTest {
+
+    private static final int CHAMADAS = 8;
+
+    private ConsultasEmAndamento consultas;
+    private ExecutorService executor;
+    private UUID cupomId;
+    private CupomResponse cupomResponse;
+
+    @BeforeEach
+    void setUp() {
+        consultas = new ConsultasEmAndamento();
+        executor = Executors.newFixedThreadPool(CHAMADAS);
+        cupomId = UUID.randomUUID();
+        cupomResponse = new CupomResponse(cupomId, "ABC123", "Cupom de Teste", BigDecimal.valueOf(10.0),
+                                          LocalDateTime.now().plusDays(30), Status.ACTIVE, true, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve fazer uma única busca para chamadas simultâneas com o mesmo id e entregar o resultado a todas")
+    void testCoalesceConcurrentCalls() throws Exception {
+        // Arrange
+        AtomicInteger buscas = new AtomicInteger();
+        CountDownLatch liberar = new CountDownLatch(1);
+        Supplier<CupomResponse> busca = () -> {
+            buscas.incrementAndGet();
+            aguardar(liberar);
+            return cupomResponse;
+        };
+
+        // Act
+        List<Future<CupomResponse>> resultados = disparar(() -> consultas.porId(cupomId, busca));
+        esperarCoalescidas(CHAMADAS - 1);
+        liberar.countDown();
+
+        // Assert
+        for (Future<CupomResponse> resultado : resultados) {
+            assertSame(cupomResponse, resultado.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, buscas.get());
+        assertEquals(CHAMADAS - 1, consultas.coalescidas());
+    }
+
+    @Test
+    @DisplayName("Deve repassar a mesma exceção da busca a quem estava esperando")
+    void testShareFailure() throws Exception {
+        // Arrange
+        CountDownLatch liberar = new CountDownLatch(1);
+        Supplier<CupomResponse> busca = () -> {
+            aguardar(liberar);
+            throw new NegocioException(TabelaDeErros.CUPOM_NAO_ENCONTRADO);
+        };
+
+        // Act
+        List<Future<CupomResponse>> resultados = disparar(() -> consultas.porCodigo("ABC123", busca));
+        esperarCoalescidas(CHAMADAS - 1);
+        liberar.countDown();
+
+        // Assert
+        for (Future<CupomResponse> resultado : resultados) {
+            Exception e = assertThrows(Exception.class,
+                () -> resultado.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof NegocioException);
+            assertEquals(TabelaDeErros.CUPOM_NAO_ENCONTRADO, ((NegocioException) e.getCause()).getErro());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve buscar de novo depois que o voo anterior terminou e publicar as métricas por chave")
+    void testNewFlightAfterCompletion() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        consultas.bindTo(registry);
+        AtomicInteger buscas = new AtomicInteger();
+
+        // Act
+        consultas.porId(cupomId, () -> { buscas.incrementAndGet(); return cupomResponse; });
+        consultas.porId(cupomId, () -> { buscas.incrementAndGet(); return cupomResponse; });
+
+        // Assert
+        assertEquals(2, buscas.get());
+        assertEquals(0, consultas.coalescidas());
+        assertEquals(2.0, registry.get("cupom.consultas").tags("chave", "id", "resultado", "busca")
+                                  .functionCounter().count());
+        assertEquals(0.0, registry.get("cupom.consultas.em-andamento").tag("chave", "id").gauge().value());
+    }
+
+    private List<Future<CupomResponse>> disparar(Callable<CupomResponse> chamada) {
+        List<Future<CupomResponse>> resultados = new ArrayList<>(CHAMADAS);
+        for (int i = 0; i < CHAMADAS; i++) {
+            resultados.add(executor.submit(chamada));
+        }
+        return resultados;
+    }
+
+    // Só libera a busca depois que todas as outras chamadas já entraram no voo
+    private void esperarCoalescidas(long esperadas) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (consultas.coalescidas() < esperadas && System.nanoTime() < limite) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void aguardar(CountDownLatch liberar) {
+        try {
+            liberar.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.cupom.CupomTeste.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.cupom.CupomTeste.Service.CupomAlteradoEvent;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.dto.CupomResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Testes da classe CupomCache")
+class CupomCacheTest {
+
+    private CacheCompartilhado compartilhado;
+    private CanalDeInvalidacao canal;
+    private CupomCache cache;
+    private UUID cupomId;
+    private CupomResponse cupomResponse;
+
+    @BeforeEach
+    void setUp() {
+        compartilhado = new CacheCompartilhadoEmMemoria(100, Duration.ofMinutes(5));
+        canal = new CanalDeInvalidacaoLocal();
+        cache = replica();
+        cupomId = UUID.randomUUID();
+        cupomResponse = new CupomResponse(cupomId, "ABC123", "Cupom de Teste", BigDecimal.valueOf(10.0),
+                                          LocalDateTime.now().plusDays(30), Status.ACTIVE, true, false);
+    }
+
+    @Test
+    @DisplayName("Deve contabilizar falta e acerto")
+    void testHitAndMissCounters() {
+        // Act
+        assertNull(cache.buscar(cupomId));
+        cache.armazenar(cupomId, cupomResponse);
+        assertSame(cupomResponse, cache.buscar(cupomId));
+
+        // Assert
+        assertEquals(1, cache.estatisticas().hitCount());
+        assertEquals(1, cache.estatisticas().missCount());
+    }
+
+    @Test
+    @DisplayName("Deve remover a entrada ao receber evento de alteração")
+    void testEvictOnChangeEvent() {
+        // Arrange
+        cache.armazenar(cupomId, cupomResponse);
+
+        // Act
+        cache.aoAlterarCupom(new CupomAlteradoEvent(cupomId));
+
+        // Assert
+        assertNull(cache.buscar(cupomId));
+    }
+
+    @Test
+    @DisplayName("Deve buscar no nível compartilhado quando o local não tem a entrada")
+    void testSharedTierServesOtherReplica() {
+        // Arrange
+        CupomCache outra = replica();
+        cache.armazenar(cupomId, cupomResponse);
+
+        // Act
+        CupomResponse primeira = outra.buscar(cupomId);
+        CupomResponse segunda = outra.buscar(cupomId);
+
+        // Assert
+        assertSame(cupomResponse, primeira);
+        assertSame(cupomResponse, segunda);
+        assertEquals(1.0, outra.taxaDeAcertoCompartilhado());
+        assertEquals(1, outra.estatisticas().hitCount());
+    }
+
+    @Test
+    @DisplayName("Alteração numa réplica deve invalidar o nível local das outras")
+    void testInvalidationReachesOtherReplicas() {
+        // Arrange
+        CupomCache outra = replica();
+        cache.armazenar(cupomId, cupomResponse);
+        outra.buscar(cupomId);
+
+        // Act
+        cache.aoAlterarCupom(new CupomAlteradoEvent(cupomId));
+
+        // Assert
+        assertNull(compartilhado.buscar(cupomId));
+        assertNull(outra.buscar(cupomId));
+        assertNull(cache.buscar(cupomId));
+    }
+
+    @Test
+    @DisplayName("Deve publicar métricas de taxa de acerto e de invalidação")
+    void testMetrics() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CupomCache outra = replica();
+        outra.bindTo(registry);
+        cache.armazenar(cupomId, cupomResponse);
+        outra.buscar(cupomId);
+        outra.buscar(UUID.randomUUID());
+
+        // Act
+        cache.remover(cupomId);
+
+        // Assert
+        assertEquals(0.5, registry.get("cupom.cache.taxa-acerto").tag("nivel", "compartilhado").gauge().value());
+        assertEquals(1.0, registry.get("cupom.cache.invalidacoes").tag("sentido", "recebida").functionCounter().count());
+        assertEquals(1, registry.get("cupom.cache.invalidacoes.atraso").timer().count());
+    }
+
+    // Outra réplica: nível local próprio, mesmo nível compartilhado e mesmo canal
+    private CupomCache replica() {
+        return new CupomCache(100, Duration.ofSeconds(30), compartilhado, canal);
+    }
+}
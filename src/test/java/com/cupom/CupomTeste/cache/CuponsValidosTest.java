@@ -0,0 +1,144 @@
+package com.cupom.CupomTeste.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.Service.CupomLoteService;
+import com.cupom.CupomTeste.Service.CupomService;
+import com.cupom.CupomTeste.Service.ExpiradorDeCupons;
+import com.cupom.CupomTeste.Service.FilaDeDelecao;
+import com.cupom.CupomTeste.model.Cupom;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.dto.CupomRequest;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes da classe CuponsValidos")
+class CuponsValidosTest {
+
+    @Autowired
+    private CuponsValidos cuponsValidos;
+
+    @Autowired
+    private CupomService cupomService;
+
+    @Autowired
+    private CupomLoteService cupomLoteService;
+
+    @Autowired
+    private FilaDeDelecao filaDeDelecao;
+
+    @Autowired
+    private ExpiradorDeCupons expiradorDeCupons;
+
+    @SpyBean
+    private CupomRepository cupomRepository;
+
+    @AfterEach
+    void tearDown() {
+        cupomRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Deve acompanhar criação, resgate e deleção feitos pelo CupomService")
+    void testFollowsServiceChanges() {
+        // Arrange
+        UUID resgatado = criar("VAL001");
+        UUID deletado = criar("VAL002");
+
+        // Act
+        long antes = cuponsValidos.descontoSeValido("VAL001");
+        cupomService.redeemCupom(resgatado);
+        cupomService.deleteCupom(deletado);
+
+        // Assert
+        assertEquals(1250, antes);
+        assertEquals(TabelaDeCupons.INVALIDO, cuponsValidos.descontoSeValido("VAL001"));
+        assertEquals(TabelaDeCupons.INVALIDO, cuponsValidos.descontoSeValido("VAL002"));
+        assertEquals(TabelaDeCupons.INVALIDO, cuponsValidos.descontoSeValido("NAOEXI"));
+    }
+
+    @Test
+    @DisplayName("Deve registrar cupons gravados em lote")
+    void testFollowsBatchInsert() throws Exception {
+        // Arrange
+        String corpo = """
+            [{"code":"VAL003","description":"Lote","discountValue":3.333,"expirationDate":"%s","published":true}]"""
+            .formatted(LocalDateTime.now().plusDays(5));
+
+        // Act
+        cupomLoteService.createCupoms(new ByteArrayInputStream(corpo.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(333, cuponsValidos.descontoSeValido("VAL003"));
+    }
+
+    @Test
+    @DisplayName("Descarga da fila de deleção e expiração em lote devem tirar os códigos sem reler linha a linha")
+    void testBatchPathsSkipPerRowReads() {
+        // Arrange
+        UUID deletado = criar("VAL005");
+        Cupom vencido = new Cupom();
+        vencido.setCode("VAL006");
+        vencido.setDiscountValue(new BigDecimal("12.50"));
+        vencido.setExpirationDate(LocalDateTime.now(ZoneOffset.UTC).minusMinutes(1));
+        vencido.setStatus(Status.ACTIVE);
+        vencido.setPublished(true);
+        cuponsValidos.registrar(cupomRepository.save(vencido));
+        cupomLoteService.deleteCupoms(List.of(deletado));
+        int antes = cuponsValidos.tamanho();
+        clearInvocations(cupomRepository);
+
+        // Act
+        filaDeDelecao.descarregar();
+        expiradorDeCupons.expirar();
+
+        // Assert
+        verify(cupomRepository, never()).buscarResumo(any());
+        assertEquals(antes - 1, cuponsValidos.tamanho());
+        assertEquals(Status.DELETED, cupomRepository.findById(deletado).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve carregar da base os cupons válidos")
+    void testLoadFromDatabase() {
+        // Arrange
+        criar("VAL004");
+
+        // Act
+        cuponsValidos.carregar();
+
+        // Assert
+        assertEquals(1250, cuponsValidos.descontoSeValido("VAL004"));
+    }
+
+    private UUID criar(String code) {
+        CupomRequest request = new CupomRequest();
+        request.setCode(code);
+        request.setDescription("Validação rápida");
+        request.setDiscountValue(new BigDecimal("12.50"));
+        request.setExpirationDate(LocalDateTime.now().plusDays(5));
+        request.setPublished(true);
+        return cupomService.createCupom(request).getBody().getId();
+    }
+}
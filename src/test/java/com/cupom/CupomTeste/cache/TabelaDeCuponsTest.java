@@ -0,0 +1,129 @@
+package com.cupom.CupomTeste.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes da classe TabelaDeCupons")
+class TabelaDeCuponsTest {
+
+    private static final long AGORA = 1_800_000_000L;
+    private static final long FUTURO = AGORA + 86_400;
+
+    private TabelaDeCupons tabela;
+
+    @BeforeEach
+    void setUp() {
+        tabela = new TabelaDeCupons(16);
+    }
+
+    @Test
+    @DisplayName("Deve devolver o desconto só de cupons não resgatados e não vencidos")
+    void testValidity() {
+        // Arrange
+        tabela.gravar(1, 1050, FUTURO, TabelaDeCupons.PUBLICADO);
+        tabela.gravar(2, 500, AGORA - 1, 0);
+        tabela.gravar(3, 700, FUTURO, TabelaDeCupons.RESGATADO);
+
+        // Act & Assert
+        assertEquals(1050, tabela.descontoSeValido(1, AGORA));
+        assertEquals(TabelaDeCupons.INVALIDO, tabela.descontoSeValido(2, AGORA));
+        assertEquals(TabelaDeCupons.INVALIDO, tabela.descontoSeValido(3, AGORA));
+        assertEquals(TabelaDeCupons.INVALIDO, tabela.descontoSeValido(4, AGORA));
+    }
+
+    @Test
+    @DisplayName("Deve sobrescrever a chave existente sem aumentar o tamanho")
+    void testOverwrite() {
+        // Act
+        tabela.gravar(42, 100, FUTURO, 0);
+        tabela.gravar(42, 200, FUTURO, 0);
+
+        // Assert
+        assertEquals(1, tabela.tamanho());
+        assertEquals(200, tabela.descontoSeValido(42, AGORA));
+    }
+
+    @Test
+    @DisplayName("Deve crescer e manter o mesmo conteúdo de um HashMap sob inserções e remoções aleatórias")
+    void testMatchesHashMap() {
+        // Arrange
+        Map<Long, Long> esperado = new HashMap<>();
+        Random aleatorio = new Random(7);
+
+        // Act
+        for (int i = 0; i < 200_000; i++) {
+            long chave = 1 + aleatorio.nextInt(20_000);
+            if (aleatorio.nextInt(3) == 0) {
+                assertEquals(esperado.remove(chave) != null, tabela.remover(chave));
+            } else {
+                long centavos = aleatorio.nextInt(100_000);
+                tabela.gravar(chave, centavos, FUTURO, 0);
+                esperado.put(chave, centavos);
+            }
+        }
+
+        // Assert
+        assertEquals(esperado.size(), tabela.tamanho());
+        for (long chave = 1; chave <= 20_000; chave++) {
+            assertEquals(esperado.getOrDefault(chave, TabelaDeCupons.INVALIDO), tabela.descontoSeValido(chave, AGORA));
+        }
+        assertTrue(tabela.bytesReservados() >= esperado.size() * 2L * 24);
+    }
+
+    @Test
+    @DisplayName("Leitores concorrentes nunca veem valor de outra chave enquanto a tabela cresce e muda")
+    void testConcurrentReads() throws Exception {
+        // Arrange
+        for (long chave = 1; chave <= 1_000; chave++) {
+            tabela.gravar(chave, chave * 10, FUTURO, 0);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicBoolean escrevendo = new AtomicBoolean(true);
+
+        // Act
+        Future<?> escritor = executor.submit(() -> {
+            for (long chave = 1_001; chave <= 200_000; chave++) {
+                tabela.gravar(chave, chave * 10, FUTURO, 0);
+                tabela.remover(chave - 500);
+            }
+            escrevendo.set(false);
+        });
+        Future<?>[] leitores = new Future<?>[3];
+        for (int t = 0; t < leitores.length; t++) {
+            leitores[t] = executor.submit(() -> {
+                Random aleatorio = new Random();
+                while (escrevendo.get()) {
+                    long chave = 1 + aleatorio.nextInt(200_000);
+                    long desconto = tabela.descontoSeValido(chave, AGORA);
+                    assertTrue(desconto == TabelaDeCupons.INVALIDO || desconto == chave * 10);
+                }
+            });
+        }
+        escritor.get(60, TimeUnit.SECONDS);
+        for (Future<?> leitor : leitores) {
+            leitor.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        // Sobram as chaves 1..500 (nunca removidas) e as 500 últimas gravadas
+        assertEquals(1_000, tabela.tamanho());
+        assertEquals(10, tabela.descontoSeValido(1, AGORA));
+        assertEquals(2_000_000, tabela.descontoSeValido(200_000, AGORA));
+        assertFalse(tabela.remover(600));
+    }
+}
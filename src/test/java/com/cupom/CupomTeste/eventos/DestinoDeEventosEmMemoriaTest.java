@@ -0,0 +1,35 @@
+package com.cupom.CupomTeste.eventos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.cupom.CupomTeste.model.EventoCupom;
+import com.cupom.CupomTeste.model.TipoEventoCupom;
+
+@DisplayName("Testes da classe DestinoDeEventosEmMemoria")
+class DestinoDeEventosEmMemoriaTest {
+
+    @Test
+    @DisplayName("Deve guardar só os últimos eventos até a capacidade")
+    void testKeepsOnlyTheLatestEvents() {
+        // Arrange
+        DestinoDeEventosEmMemoria destino = new DestinoDeEventosEmMemoria(2);
+        UUID id = UUID.randomUUID();
+        LocalDateTime agora = LocalDateTime.of(2024, 5, 1, 12, 30);
+
+        // Act
+        destino.publicar(List.of(new EventoCupom(id, TipoEventoCupom.CRIADO, agora),
+                                 new EventoCupom(id, TipoEventoCupom.ALTERADO, agora)));
+        destino.publicar(List.of(new EventoCupom(id, TipoEventoCupom.DELETADO, agora)));
+
+        // Assert
+        assertEquals(List.of(TipoEventoCupom.ALTERADO, TipoEventoCupom.DELETADO),
+                     destino.entregues().stream().map(EventoCupom::getTipo).toList());
+    }
+}
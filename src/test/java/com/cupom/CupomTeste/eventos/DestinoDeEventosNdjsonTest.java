@@ -0,0 +1,56 @@
+package com.cupom.CupomTeste.eventos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.cupom.CupomTeste.model.EventoCupom;
+import com.cupom.CupomTeste.model.TipoEventoCupom;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+@DisplayName("Testes da classe DestinoDeEventosNdjson")
+class DestinoDeEventosNdjsonTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @TempDir
+    private Path pasta;
+
+    @Test
+    @DisplayName("Deve acrescentar uma linha JSON por evento, lote após lote, criando a pasta se preciso")
+    void testAppendOneLinePerEvent() throws IOException {
+        // Arrange
+        Path arquivo = pasta.resolve("saida/eventos.ndjson");
+        DestinoDeEventosNdjson destino = new DestinoDeEventosNdjson(arquivo, objectMapper);
+        UUID id = UUID.randomUUID();
+        LocalDateTime agora = LocalDateTime.of(2024, 5, 1, 12, 30);
+
+        // Act
+        destino.publicar(List.of(new EventoCupom(id, TipoEventoCupom.CRIADO, agora),
+                                 new EventoCupom(id, TipoEventoCupom.RESGATADO, agora)));
+        destino.publicar(List.of(new EventoCupom(id, TipoEventoCupom.DELETADO, agora)));
+
+        // Assert
+        List<String> linhas = Files.readAllLines(arquivo);
+        assertEquals(3, linhas.size());
+        JsonNode primeira = objectMapper.readTree(linhas.get(0));
+        assertEquals(id.toString(), primeira.get("cupomId").asText());
+        assertEquals("CRIADO", primeira.get("tipo").asText());
+        assertEquals("2024-05-01T12:30:00", primeira.get("ocorridoEm").asText());
+        assertEquals("DELETADO", objectMapper.readTree(linhas.get(2)).get("tipo").asText());
+    }
+}
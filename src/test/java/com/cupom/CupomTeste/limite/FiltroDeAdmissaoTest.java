@@ -0,0 +1,126 @@
+package com.cupom.CupomTeste.limite;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.cupom.CupomTeste.Exception.CorposDeErro;
+import com.cupom.CupomTeste.Exception.TabelaDeErros;
+import com.cupom.CupomTeste.metricas.CupomMetricas;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Testes da classe FiltroDeAdmissao")
+class FiltroDeAdmissaoTest {
+
+    private SimpleMeterRegistry registry;
+    private LimiteDeConcorrencia concorrencia;
+    private FiltroDeAdmissao filtro;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        concorrencia = new LimiteDeConcorrencia(1, 1, 1, TimeUnit.SECONDS.toNanos(1));
+        // 1 por segundo, rajada de 2; relógio parado para o teste não depender do tempo real
+        filtro = new FiltroDeAdmissao(new LimitadorDeTaxa(1, 2, 1000), concorrencia,
+                                      new CupomMetricas(registry), () -> 0L, Set.of("parceiro", "outro"));
+    }
+
+    @Test
+    @DisplayName("Deve responder 429 com Retry-After quando o cliente excede a taxa")
+    void testRateLimited() throws Exception {
+        // Arrange
+        executar(requisicao("/coupon/code/ABC123", "parceiro"));
+        executar(requisicao("/coupon/code/ABC123", "parceiro"));
+
+        // Act
+        MockHttpServletResponse resposta = executar(requisicao("/coupon/code/ABC123", "parceiro"));
+
+        // Assert
+        assertEquals(429, resposta.getStatus());
+        assertEquals("1", resposta.getHeader(HttpHeaders.RETRY_AFTER));
+        assertArrayEquals(CorposDeErro.de(TabelaDeErros.LIMITE_DE_REQUISICOES).getContentAsByteArray(),
+                          resposta.getContentAsByteArray());
+        assertEquals(1.0, registry.get("cupom.erros").tag("erro", "LIMITE_DE_REQUISICOES").counter().count());
+        assertEquals(200, executar(requisicao("/coupon/code/ABC123", "outro")).getStatus());
+    }
+
+    @Test
+    @DisplayName("Chaves não cadastradas devem dividir o limite do IP de origem")
+    void testUnknownKeysShareAddressBucket() throws Exception {
+        // Arrange
+        executar(requisicao("/coupon/code/ABC123", UUID.randomUUID().toString()));
+        executar(requisicao("/coupon/code/ABC123", UUID.randomUUID().toString()));
+
+        // Act
+        MockHttpServletResponse resposta = executar(requisicao("/coupon/code/ABC123", UUID.randomUUID().toString()));
+
+        // Assert
+        assertEquals(429, resposta.getStatus());
+        assertEquals(200, executar(requisicao("/coupon/code/ABC123", "parceiro")).getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve responder 503 quando as vagas de concorrência estão ocupadas")
+    void testConcurrencyLimited() throws Exception {
+        // Arrange
+        concorrencia.adquirir();
+
+        // Act
+        MockHttpServletResponse resposta = executar(requisicao("/coupon/code/ABC123", "parceiro"));
+
+        // Assert
+        assertEquals(503, resposta.getStatus());
+        assertNotNull(resposta.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1.0, registry.get("cupom.erros").tag("erro", "SERVICO_SOBRECARREGADO").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve deixar a validação por código fora do limite de concorrência")
+    void testValidationBypassesConcurrencyLimit() throws Exception {
+        // Arrange
+        concorrencia.adquirir();
+
+        // Act
+        MockHttpServletResponse resposta = executar(requisicao("/coupon/code/ABC123/validation", "parceiro"));
+
+        // Assert
+        assertEquals(200, resposta.getStatus());
+        assertNull(resposta.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    @DisplayName("Deve devolver a vaga de concorrência ao fim da requisição")
+    void testPermitReleased() throws Exception {
+        // Act
+        executar(requisicao("/coupon/code/ABC123", "parceiro"));
+
+        // Assert
+        assertEquals(0, concorrencia.getEmUso());
+    }
+
+    private MockHttpServletResponse executar(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filtro.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest requisicao(String uri, String chave) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.addHeader(FiltroDeAdmissao.CABECALHO_CHAVE, chave);
+        return request;
+    }
+}
@@ -0,0 +1,88 @@
+package com.cupom.CupomTeste.limite;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes da classe LimitadorDeTaxa")
+class LimitadorDeTaxaTest {
+
+    private static final long SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+
+    private LimitadorDeTaxa limitador;
+
+    @BeforeEach
+    void setUp() {
+        // 10 por segundo, rajada de 5
+        limitador = new LimitadorDeTaxa(10, 5, 1000);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar a rajada inteira e recusar a seguinte informando a espera")
+    void testBurstThenReject() {
+        // Act
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limitador.tentar("cliente", 0));
+        }
+        long espera = limitador.tentar("cliente", 0);
+
+        // Assert
+        assertEquals(SEGUNDO / 10, espera);
+    }
+
+    @Test
+    @DisplayName("Deve liberar uma nova ficha a cada intervalo")
+    void testRefillAfterInterval() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            limitador.tentar("cliente", 0);
+        }
+
+        // Act & Assert
+        assertEquals(0, limitador.tentar("cliente", SEGUNDO / 10));
+        assertTrue(limitador.tentar("cliente", SEGUNDO / 10) > 0);
+    }
+
+    @Test
+    @DisplayName("Deve contar cada cliente separadamente")
+    void testClientsAreIndependent() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            limitador.tentar("abusivo", 0);
+        }
+
+        // Act & Assert
+        assertTrue(limitador.tentar("abusivo", 0) > 0);
+        assertEquals(0, limitador.tentar("comportado", 0));
+    }
+
+    @Test
+    @DisplayName("Threads concorrentes não aceitam mais que a rajada")
+    void testConcurrentAcquireRespectsBurst() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger aceitas = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> {
+                if (limitador.tentar("cliente", 0) == 0) {
+                    aceitas.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(5, aceitas.get());
+    }
+}
@@ -0,0 +1,89 @@
+package com.cupom.CupomTeste.limite;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes da classe LimiteDeConcorrencia")
+class LimiteDeConcorrenciaTest {
+
+    private static final long ALVO = 100;
+
+    private LimiteDeConcorrencia limite;
+
+    @BeforeEach
+    void setUp() {
+        limite = new LimiteDeConcorrencia(10, 2, 12, ALVO);
+    }
+
+    @Test
+    @DisplayName("Deve recusar quando todas as vagas estão ocupadas")
+    void testRejectWhenFull() {
+        // Act
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limite.adquirir());
+        }
+
+        // Assert
+        assertFalse(limite.adquirir());
+        assertEquals(10, limite.getEmUso());
+    }
+
+    @Test
+    @DisplayName("Deve crescer de um em um sob uso com latência boa, até o máximo")
+    void testAdditiveIncrease() {
+        // Act
+        for (int i = 0; i < 5; i++) {
+            ocuparTudo();
+            limite.liberar(ALVO / 2, false);
+            liberarResto();
+        }
+
+        // Assert
+        assertEquals(12, limite.getLimite());
+    }
+
+    @Test
+    @DisplayName("Deve encolher quando a latência passa do alvo ou a requisição falha, até o mínimo")
+    void testMultiplicativeDecrease() {
+        // Act
+        limite.adquirir();
+        limite.liberar(ALVO * 2, false);
+        int depoisDaLentidao = limite.getLimite();
+        for (int i = 0; i < 50; i++) {
+            limite.adquirir();
+            limite.liberar(0, true);
+        }
+
+        // Assert
+        assertEquals(9, depoisDaLentidao);
+        assertEquals(2, limite.getLimite());
+        assertEquals(0, limite.getEmUso());
+    }
+
+    @Test
+    @DisplayName("Não deve crescer com o limite ocioso")
+    void testNoIncreaseWhenIdle() {
+        // Act
+        limite.adquirir();
+        limite.liberar(0, false);
+
+        // Assert
+        assertEquals(10, limite.getLimite());
+    }
+
+    private void ocuparTudo() {
+        while (limite.adquirir()) {
+        }
+    }
+
+    private void liberarResto() {
+        while (limite.getEmUso() > 0) {
+            limite.liberarSemAmostra();
+        }
+    }
+}
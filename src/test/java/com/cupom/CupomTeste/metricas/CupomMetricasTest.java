@@ -0,0 +1,44 @@
+package com.cupom.CupomTeste.metricas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.cupom.CupomTeste.Exception.TabelaDeErros;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Testes da classe CupomMetricas")
+class CupomMetricasTest {
+
+    private SimpleMeterRegistry registry;
+    private CupomMetricas metricas;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metricas = new CupomMetricas(registry);
+    }
+
+    @Test
+    @DisplayName("Deve registrar um contador zerado para cada código da TabelaDeErros")
+    void testOneCounterPerError() {
+        // Assert
+        assertEquals(TabelaDeErros.values().length, registry.find("cupom.erros").counters().size());
+        assertEquals(0.0, registry.get("cupom.erros").tag("codigo", "2001-2000").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve incrementar apenas o contador do erro informado")
+    void testIncrementOnlyMatchingCounter() {
+        // Act
+        metricas.registrarErro(TabelaDeErros.CUPOM_JA_RESGATADO);
+        metricas.registrarErro(TabelaDeErros.CUPOM_JA_RESGATADO);
+
+        // Assert
+        assertEquals(2.0, registry.get("cupom.erros").tag("erro", "CUPOM_JA_RESGATADO").counter().count());
+        assertEquals(0.0, registry.get("cupom.erros").tag("erro", "CUPOM_EXPIRADO").counter().count());
+    }
+}
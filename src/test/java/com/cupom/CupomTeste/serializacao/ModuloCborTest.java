@@ -0,0 +1,138 @@
+package com.cupom.CupomTeste.serializacao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.cupom.CupomTeste.Repository.CupomRepository;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.dto.CupomRequest;
+import com.cupom.CupomTeste.model.dto.CupomResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Testes da classe ModuloCbor")
+class ModuloCborTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter conversorCbor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CupomRepository cupomRepository;
+
+    private ObjectMapper cbor;
+    private CupomResponse response;
+
+    @BeforeEach
+    void setUp() {
+        cbor = conversorCbor.getObjectMapper();
+        response = new CupomResponse(null, null, null, null, null, null, false, false);
+        response.setId(UUID.randomUUID());
+        response.setCode("ABC123");
+        response.setDescription("Cupom de teste");
+        response.setDiscountValue(new BigDecimal("10.50"));
+        response.setExpirationDate(LocalDateTime.of(2030, 1, 2, 3, 4, 5, 123_456_000));
+        response.setStatus(Status.ACTIVE);
+        response.setPublished(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cupomRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Deve codificar UUID em binário, data como epoch e voltar sem perda")
+    void testRoundTrip() throws Exception {
+        // Act
+        byte[] bytes = cbor.writeValueAsBytes(response);
+        JsonNode arvore = cbor.readTree(bytes);
+        CupomResponse lido = cbor.readValue(bytes, CupomResponse.class);
+
+        // Assert
+        assertTrue(arvore.get("id").isBinary());
+        assertEquals(16, arvore.get("id").binaryValue().length);
+        assertTrue(arvore.get("expirationDate").isNumber());
+        assertEquals(response.getId(), lido.getId());
+        assertEquals(response.getExpirationDate(), lido.getExpirationDate());
+        assertEquals(0, response.getDiscountValue().compareTo(lido.getDiscountValue()));
+        assertTrue(bytes.length < objectMapper.writeValueAsBytes(response).length);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar a data em texto ISO-8601 e em segundos inteiros")
+    void testReadsIsoAndIntegerDates() throws Exception {
+        // Arrange
+        byte[] iso = cbor.writeValueAsBytes(cbor.createObjectNode().put("expirationDate", "2030-01-02T03:04:05"));
+        byte[] inteiro = cbor.writeValueAsBytes(cbor.createObjectNode().put("expirationDate", 1893553445L));
+
+        // Act
+        CupomRequest deTexto = cbor.readValue(iso, CupomRequest.class);
+        CupomRequest deNumero = cbor.readValue(inteiro, CupomRequest.class);
+
+        // Assert
+        assertEquals(LocalDateTime.of(2030, 1, 2, 3, 4, 5), deTexto.getExpirationDate());
+        assertEquals(LocalDateTime.of(2030, 1, 2, 3, 4, 5), deNumero.getExpirationDate());
+    }
+
+    @Test
+    @DisplayName("Deve criar e buscar cupom trafegando CBOR nos dois sentidos")
+    void testContentNegotiation() throws Exception {
+        // Arrange
+        CupomRequest request = new CupomRequest();
+        request.setCode("CBR001");
+        request.setDescription("Cupom binário");
+        request.setDiscountValue(new BigDecimal("7.5"));
+        request.setExpirationDate(LocalDateTime.now().plusDays(10).withNano(0));
+        request.setPublished(true);
+
+        // Act
+        byte[] criado = mockMvc.perform(post("/coupon")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cbor.writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        UUID id = cbor.readValue(criado, CupomResponse.class).getId();
+
+        byte[] lido = mockMvc.perform(get("/coupon/{id}", id).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        CupomResponse cupom = cbor.readValue(lido, CupomResponse.class);
+        assertEquals("CBR001", cupom.getCode());
+        assertEquals(request.getExpirationDate(), cupom.getExpirationDate());
+        mockMvc.perform(get("/coupon/{id}", id))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+}
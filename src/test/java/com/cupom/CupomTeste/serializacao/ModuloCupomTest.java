@@ -0,0 +1,133 @@
+package com.cupom.CupomTeste.serializacao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.cupom.CupomTeste.mapper.CupomMapperImpl;
+import com.cupom.CupomTeste.model.Cupom;
+import com.cupom.CupomTeste.model.Status.Status;
+import com.cupom.CupomTeste.model.dto.CupomPagina;
+import com.cupom.CupomTeste.model.dto.CupomResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+@DisplayName("Testes da classe ModuloCupom")
+class ModuloCupomTest {
+
+    private ObjectMapper porBean;
+    private ObjectMapper direto;
+    private Cupom cupom;
+    private CupomResponse response;
+
+    @BeforeEach
+    void setUp() {
+        porBean = comoNoSpring().build();
+        direto = comoNoSpring().modulesToInstall(new ModuloCupom()).build();
+
+        cupom = new Cupom();
+        cupom.setId(UUID.randomUUID());
+        cupom.setCode("ABC123");
+        cupom.setDescription("Cupom \"de\" teste");
+        cupom.setDiscountValue(new BigDecimal("10.50"));
+        cupom.setExpirationDate(LocalDateTime.of(2030, 1, 2, 3, 4, 5, 123_456_000));
+        cupom.setStatus(Status.EXPIRED);
+        cupom.setPublished(true);
+        response = new CupomMapperImpl().toResponse(cupom);
+    }
+
+    @Test
+    @DisplayName("Deve gerar o mesmo JSON da serialização por bean, a partir da resposta e da entidade")
+    void testSameJsonAsBeanSerialization() throws Exception {
+        // Act
+        String esperado = porBean.writeValueAsString(response);
+
+        // Assert
+        assertEquals(esperado, direto.writeValueAsString(response));
+        assertEquals(esperado, direto.writeValueAsString(cupom));
+    }
+
+    @Test
+    @DisplayName("Deve escrever a data com o mesmo texto do ISO_LOCAL_DATE_TIME")
+    void testIsoDateMatchesFormatter() {
+        // Arrange
+        List<LocalDateTime> datas = List.of(LocalDateTime.of(2030, 1, 2, 3, 4),
+                                            LocalDateTime.of(2030, 12, 31, 23, 59, 59, 1),
+                                            LocalDateTime.of(2030, 6, 15, 12, 0, 0, 500_000_000),
+                                            LocalDateTime.of(1, 1, 1, 0, 0, 0, 123_456_789),
+                                            LocalDateTime.of(9999, 9, 9, 9, 9, 9, 120_000));
+        char[] texto = new char[29];
+
+        // Act & Assert
+        for (LocalDateTime data : datas) {
+            int tamanho = ModuloCupom.escreverIso(data, texto);
+            assertEquals(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(data), new String(texto, 0, tamanho));
+        }
+        assertEquals(-1, ModuloCupom.escreverIso(LocalDateTime.of(10_000, 1, 1, 0, 0), texto));
+    }
+
+    @Test
+    @DisplayName("Deve escrever o UUID com o mesmo texto do UUID.toString")
+    void testUuidMatchesToString() {
+        // Arrange
+        char[] texto = new char[36];
+
+        // Act & Assert
+        for (UUID id : List.of(UUID.randomUUID(), new UUID(0, 0), new UUID(-1, -1), new UUID(0x0123456789abcdefL, 1))) {
+            ModuloCupom.escreverUuid(id, texto);
+            assertEquals(id.toString(), new String(texto));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve escrever campos nulos como null")
+    void testNullFields() throws Exception {
+        // Act
+        CupomResponse vazio = new CupomResponse();
+
+        // Assert
+        assertEquals(porBean.writeValueAsString(vazio), direto.writeValueAsString(vazio));
+    }
+
+    @Test
+    @DisplayName("Deve ser usado também dentro de listas e páginas")
+    void testNestedInPage() throws Exception {
+        // Act
+        CupomPagina<CupomResponse> pagina = new CupomPagina<>(List.of(response, response), null);
+
+        // Assert
+        assertEquals(porBean.writeValueAsString(pagina), direto.writeValueAsString(pagina));
+    }
+
+    @Test
+    @DisplayName("Deve manter a codificação CBOR do ObjectMapper em que foi registrado")
+    void testCborKeepsNativeEncodings() throws Exception {
+        // Arrange
+        ObjectMapper cborPorBean = comoNoSpring().factory(new CBORFactory())
+                .modulesToInstall(new ModuloCbor()).build();
+        ObjectMapper cborDireto = comoNoSpring().factory(new CBORFactory())
+                .modulesToInstall(new ModuloCbor(), new ModuloCupom()).build();
+
+        // Act
+        byte[] bytes = cborDireto.writeValueAsBytes(response);
+
+        // Assert
+        assertEquals(cborPorBean.readTree(cborPorBean.writeValueAsBytes(response)), cborDireto.readTree(bytes));
+        assertEquals(response.getExpirationDate(), cborDireto.readValue(bytes, CupomResponse.class).getExpirationDate());
+    }
+
+    // O Spring Boot desliga as datas como timestamp; o builder puro não
+    private static Jackson2ObjectMapperBuilder comoNoSpring() {
+        return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}